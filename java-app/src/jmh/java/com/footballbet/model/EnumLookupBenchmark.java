@@ -0,0 +1,81 @@
+package com.footballbet.model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// MatchType.from and Result.from against the values() loops they replaced, over the type and result cells of
+// a generated round. Cells include the full-width and lower-case spellings the crawler produces.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnumLookupBenchmark {
+    private static final String[] TYPES = { "일반", "핸디캡", "언더오버", "홀짝", "general" };
+    private static final String[] RESULTS = { "승", "무", "패", "U", "O", "홀", "짝", "\uFF35", "\uFF2F", "win" };
+
+    @Param({ "14", "2000" })
+    public int rows;
+
+    private String[] types;
+    private String[] results;
+
+    @Setup
+    public void setUp() {
+        types = new String[rows];
+        results = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            types[i] = TYPES[i % TYPES.length];
+            results[i] = RESULTS[i % RESULTS.length];
+        }
+    }
+
+    @Benchmark
+    public long valuesLoop() {
+        long sink = 0;
+        for (int i = 0; i < rows; i++) {
+            sink += legacyType(types[i]).ordinal() * 16L + legacyResult(results[i]).ordinal();
+        }
+        return sink;
+    }
+
+    @Benchmark
+    public long lookupTable() {
+        long sink = 0;
+        for (int i = 0; i < rows; i++) {
+            sink += MatchType.from(types[i]).ordinal() * 16L + Result.from(results[i]).ordinal();
+        }
+        return sink;
+    }
+
+    private static MatchType legacyType(String text) {
+        if (text == null)
+            return MatchType.UNKNOWN;
+        for (MatchType type : MatchType.values()) {
+            if (type.getDescription().equals(text) || type.name().equalsIgnoreCase(text)) {
+                return type;
+            }
+        }
+        return MatchType.UNKNOWN;
+    }
+
+    private static Result legacyResult(String text) {
+        if (text == null)
+            return Result.UNKNOWN;
+        if (text.equals("\uFF35"))
+            return Result.UNDER;
+        if (text.equals("\uFF2F"))
+            return Result.OVER;
+        for (Result result : Result.values()) {
+            if (result.getDescription().equals(text) || result.name().equalsIgnoreCase(text)) {
+                return result;
+            }
+        }
+        return Result.UNKNOWN;
+    }
+}
@@ -0,0 +1,62 @@
+package com.footballbet.service.simulation;
+
+import com.footballbet.dto.simulation.MonteCarloResult;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Both simulation modes over a generated history at a fixed seed, so every invocation replays the same paths.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MonteCarloSimulatorBenchmark {
+    private static final long SEED = 42;
+    private static final int BETS_PER_ROUND = 14;
+
+    @Param({ "BOOTSTRAP", "IMPLIED" })
+    public MonteCarloSimulator.Mode mode;
+
+    @Param({ "10000" })
+    public int paths;
+
+    @Param({ "200" })
+    public int rounds;
+
+    private StrategyBets bets;
+    private MonteCarloSimulator simulator;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        int count = rounds * BETS_PER_ROUND;
+        int[] roundNumbers = new int[rounds];
+        int[] roundStarts = new int[rounds + 1];
+        double[] payoutOdds = new double[count];
+        double[] impliedProbabilities = new double[count];
+        boolean[] hits = new boolean[count];
+        for (int r = 0; r < rounds; r++) {
+            roundNumbers[r] = 2025001 + r;
+            roundStarts[r + 1] = (r + 1) * BETS_PER_ROUND;
+        }
+        for (int i = 0; i < count; i++) {
+            payoutOdds[i] = 1.2 + random.nextDouble() * 3;
+            impliedProbabilities[i] = 0.93 / payoutOdds[i];
+            hits[i] = random.nextDouble() < impliedProbabilities[i];
+        }
+        bets = new StrategyBets(Strategy.of("bench", PickRule.FAVORITE), 100, roundNumbers, roundStarts, payoutOdds,
+                impliedProbabilities, hits);
+        simulator = new MonteCarloSimulator();
+    }
+
+    @Benchmark
+    public MonteCarloResult simulate() {
+        return simulator.simulate(bets, mode, paths, SEED);
+    }
+}
@@ -0,0 +1,96 @@
+package com.footballbet.store;
+
+import com.footballbet.common.CsvColumns;
+import com.footballbet.dto.load.LoadReport;
+import com.footballbet.service.MatchService;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// Startup from a warm snapshot against parsing every round file, both validating as they load. The snapshot is
+// written once in setup and every measured load reuses all of its segments.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnapshotLoadBenchmark {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yy.MM.dd (E) HH:mm",
+            Locale.KOREAN);
+    private static final String[] TEAMS = { "Arsenal", "Chelsea", "Liverpool", "Everton", "Fulham", "Brentford" };
+    private static final String[] TYPES = { "일반", "핸디캡", "언더오버", "홀짝" };
+    private static final String[] RESULTS = { "승", "무", "패", "U", "O", "홀", "짝" };
+    private static final int ROWS_PER_ROUND = 14;
+
+    @Param({ "50", "500" })
+    public int rounds;
+
+    private Path root;
+    private String data;
+    private MatchService service;
+
+    @Setup
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("snapshot_bench");
+        Path dir = Files.createDirectories(root.resolve("data"));
+        data = dir.toString();
+        service = new MatchService();
+        LocalDateTime kickoff = LocalDateTime.of(2025, 3, 15, 19, 0);
+        for (int r = 0; r < rounds; r++) {
+            int round = 2025001 + r;
+            try (Writer out = Files.newBufferedWriter(dir.resolve("betinfo_proto_round_" + round + ".csv"),
+                    StandardCharsets.UTF_8)) {
+                out.write(String.join(",", CsvColumns.ROUND, CsvColumns.MATCH_NO, CsvColumns.DATE_TIME,
+                        CsvColumns.LEAGUE, CsvColumns.HOME, CsvColumns.AWAY, CsvColumns.TYPE, CsvColumns.WIN_ODD,
+                        CsvColumns.DRAW_ODD, CsvColumns.LOSE_ODD, CsvColumns.SCORE, CsvColumns.RESULT,
+                        CsvColumns.RESULT_ODD));
+                out.write('\n');
+                for (int i = 0; i < ROWS_PER_ROUND; i++) {
+                    out.write(String.join(",", String.valueOf(round), String.valueOf(i + 1),
+                            "\"" + kickoff.plusDays(r).plusHours(i).format(DATE_FORMATTER) + "\"", "EPL",
+                            TEAMS[i % TEAMS.length], TEAMS[(i + 1) % TEAMS.length], TYPES[i % TYPES.length],
+                            "1." + (10 + i % 90), "3.4" + i % 10, "2." + (10 + i % 90), i % 4 + ":" + i % 3,
+                            RESULTS[i % RESULTS.length], "1.85"));
+                    out.write('\n');
+                }
+            }
+        }
+        LoadReport warm = service.loadMatchesCached(data);
+        if (warm.failedFiles() > 0)
+            throw new IllegalStateException(warm.summary());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public LoadReport warmSnapshot() {
+        return service.loadMatchesCached(data);
+    }
+
+    @Benchmark
+    public LoadReport csvParse() {
+        return service.loadMatches(data);
+    }
+}
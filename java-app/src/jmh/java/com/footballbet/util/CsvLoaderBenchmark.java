@@ -0,0 +1,89 @@
+package com.footballbet.util;
+
+import com.footballbet.common.CsvColumns;
+import com.footballbet.model.Match;
+import com.footballbet.service.alias.TeamAliasResolver;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Bean-binding load against the header-indexed streaming path on a generated round file. Names go through an
+// empty alias table so only CSV parsing and row mapping are measured.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CsvLoaderBenchmark {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yy.MM.dd (E) HH:mm",
+            Locale.KOREAN);
+    private static final String[] TEAMS = { "Arsenal", "Chelsea", "Liverpool", "Everton", "Fulham", "Brentford" };
+    private static final String[] TYPES = { "일반", "핸디캡", "언더오버", "홀짝" };
+    private static final String[] RESULTS = { "승", "무", "패", "U", "O", "홀", "짝" };
+
+    @Param({ "14", "2000" })
+    public int rows;
+
+    private Path file;
+    private CsvLoader loader;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("betinfo_proto_round_bench", ".csv");
+        loader = new CsvLoader(TeamAliasResolver.empty());
+        LocalDateTime kickoff = LocalDateTime.of(2025, 3, 15, 19, 0);
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(String.join(",", CsvColumns.ROUND, CsvColumns.MATCH_NO, CsvColumns.DATE_TIME,
+                    CsvColumns.LEAGUE, CsvColumns.HOME, CsvColumns.AWAY, CsvColumns.TYPE, CsvColumns.WIN_ODD,
+                    CsvColumns.DRAW_ODD, CsvColumns.LOSE_ODD, CsvColumns.SCORE, CsvColumns.RESULT,
+                    CsvColumns.RESULT_ODD));
+            out.write('\n');
+            for (int i = 0; i < rows; i++) {
+                out.write(String.join(",", "2025001", String.valueOf(i + 1),
+                        "\"" + kickoff.plusHours(i).format(DATE_FORMATTER) + "\"", "EPL",
+                        TEAMS[i % TEAMS.length], TEAMS[(i + 1) % TEAMS.length], TYPES[i % TYPES.length],
+                        "1." + (10 + i % 90), "3.4" + i % 10, "2." + (10 + i % 90), i % 4 + ":" + i % 3,
+                        RESULTS[i % RESULTS.length], "1.85"));
+                out.write('\n');
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<Match> beanBinding() throws IOException {
+        return loader.load(file.toString());
+    }
+
+    @Benchmark
+    public List<Match> streamingList() throws IOException {
+        List<Match> matches = new ArrayList<>();
+        loader.stream(file.toString(), matches::add);
+        return matches;
+    }
+
+    @Benchmark
+    public int streamingConsumer(Blackhole blackhole) throws IOException {
+        return loader.stream(file.toString(), blackhole::consume);
+    }
+}
@@ -0,0 +1,122 @@
+package com.footballbet.util;
+
+import com.footballbet.model.Score;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// The ParseUtil cell parsers against the formatter/split/exception versions they replaced, over the numeric
+// cells of a generated round. Run with -prof gc to compare allocation per row.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParseBenchmark {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yy.MM.dd (E) HH:mm",
+            Locale.KOREAN);
+
+    @Param({ "14", "2000" })
+    public int rows;
+
+    // round, matchNo, dateTime, win, draw, lose, score, resultOdd
+    private String[][] cells;
+
+    @Setup
+    public void setUp() {
+        cells = new String[rows][];
+        LocalDateTime kickoff = LocalDateTime.of(2025, 3, 15, 19, 0);
+        for (int i = 0; i < rows; i++) {
+            cells[i] = new String[] { "2025001", String.valueOf(i + 1), kickoff.plusHours(i).format(DATE_FORMATTER),
+                    "1." + (10 + i % 90), "3.4" + i % 10, i % 7 == 0 ? "-" : "2." + (10 + i % 90),
+                    i % 4 + ":" + i % 3, "1.85" };
+        }
+    }
+
+    @Benchmark
+    public long legacy() {
+        long sink = 0;
+        for (String[] row : cells) {
+            sink += legacyInt(row[0]) + legacyInt(row[1]);
+            LocalDateTime dateTime = legacyDateTime(row[2]);
+            sink += dateTime == null ? 0 : dateTime.getMinute();
+            for (int c = 3; c <= 5; c++) {
+                Double odd = legacyDouble(row[c]);
+                sink += odd == null ? 0 : (long) (odd * 100);
+            }
+            Score score = legacyScore(row[6]);
+            sink += score == null ? 0 : score.home();
+            Double resultOdd = legacyDouble(row[7]);
+            sink += resultOdd == null ? 0 : (long) (resultOdd * 100);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    public long fastPath() {
+        long sink = 0;
+        for (String[] row : cells) {
+            sink += ParseUtil.parseInt(row[0]) + ParseUtil.parseInt(row[1]);
+            LocalDateTime dateTime = ParseUtil.parseDateTime(row[2]);
+            sink += dateTime == null ? 0 : dateTime.getMinute();
+            for (int c = 3; c <= 5; c++) {
+                Double odd = ParseUtil.parseDouble(row[c]);
+                sink += odd == null ? 0 : (long) (odd * 100);
+            }
+            Score score = ParseUtil.parseScore(row[6]);
+            sink += score == null ? 0 : score.home();
+            Double resultOdd = ParseUtil.parseDouble(row[7]);
+            sink += resultOdd == null ? 0 : (long) (resultOdd * 100);
+        }
+        return sink;
+    }
+
+    private static LocalDateTime legacyDateTime(String text) {
+        if (text == null || text.isBlank())
+            return null;
+        try {
+            return LocalDateTime.parse(text, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static Double legacyDouble(String text) {
+        if (text == null || text.isBlank() || text.equals("-"))
+            return null;
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Integer legacyInt(String text) {
+        if (text == null || text.isBlank())
+            return 0;
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static Score legacyScore(String text) {
+        if (text == null || text.isBlank() || !text.contains(":"))
+            return null;
+        String[] parts = text.split(":");
+        try {
+            return new Score(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
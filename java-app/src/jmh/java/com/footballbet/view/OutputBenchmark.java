@@ -0,0 +1,95 @@
+package com.footballbet.view;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.model.Score;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// The old writeValueAsString output path against the streaming array and NDJSON writers, all on a counting sink
+// and the ConsoleView mapper. Run with -prof gc to compare allocation per call.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutputBenchmark {
+    private static final String[] TEAMS = { "Arsenal", "Chelsea", "Liverpool", "Everton", "Fulham", "Brentford" };
+    private static final MatchType[] TYPES = { MatchType.GENERAL, MatchType.HANDICAP, MatchType.UNDER_OVER };
+    private static final Result[] RESULTS = { Result.WIN, Result.DRAW, Result.LOSE };
+
+    @Param({ "2000", "20000" })
+    public int rows;
+
+    private List<Match> matches;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        mapper = new ConsoleView(OutputStream.nullOutputStream()).getMapper();
+        matches = new ArrayList<>(rows);
+        LocalDateTime kickoff = LocalDateTime.of(2025, 3, 15, 19, 0);
+        for (int i = 0; i < rows; i++) {
+            matches.add(new Match(2025001 + i / 14, i % 14 + 1, kickoff.plusHours(i), "EPL",
+                    TEAMS[i % TEAMS.length], TEAMS[(i + 1) % TEAMS.length], TYPES[i % TYPES.length],
+                    1.1 + i % 90 / 100.0, 3.4, 2.1 + i % 90 / 100.0, Score.of(i % 4, i % 3),
+                    RESULTS[i % RESULTS.length], 1.85));
+        }
+    }
+
+    @Benchmark
+    public long writeValueAsString() throws IOException {
+        byte[] bytes = mapper.writeValueAsString(matches).getBytes(StandardCharsets.UTF_8);
+        CountingOutputStream counter = new CountingOutputStream();
+        counter.write(bytes);
+        return counter.count;
+    }
+
+    @Benchmark
+    public long streamArray() throws IOException {
+        return writeStream(false);
+    }
+
+    @Benchmark
+    public long streamNdjson() throws IOException {
+        return writeStream(true);
+    }
+
+    private long writeStream(boolean ndjson) throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        try (MatchJsonStream stream = new MatchJsonStream(mapper, new BufferedOutputStream(counter), ndjson)) {
+            for (Match match : matches) {
+                stream.write(match);
+            }
+        }
+        return counter.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.footballbet;
 
+import com.footballbet.api.ApiLoadTester;
 import com.footballbet.controller.MatchController;
 
 public class Main {
     public static void main(String[] args) {
         if (args.length > 0 && args[0].equals("--cli")) {
             new MatchController().run(args);
+        } else if (args.length > 0 && args[0].equals("--loadtest")) {
+            new ApiLoadTester().run(args);
         } else {
             try {
                 new com.footballbet.api.SimpleApiServer().start();
@@ -0,0 +1,97 @@
+package com.footballbet.api;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+// Fires GET requests at a running server and prints latency percentiles, e.g.
+//   --loadtest http://localhost:8080/api/crawler/status 5000 64
+public class ApiLoadTester {
+    private final HttpClient client;
+
+    public ApiLoadTester() {
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public void run(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: --loadtest <url> [requests] [concurrency]");
+            return;
+        }
+        String url = args[1];
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int concurrency = args.length > 3 ? Integer.parseInt(args[3]) : 32;
+        try {
+            run(URI.create(url), requests, concurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public void run(URI uri, int requests, int concurrency) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        long[] latencies = new long[requests];
+        Map<Integer, Integer> statusCounts = new TreeMap<>();
+        int failures = 0;
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                int slot = i;
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[slot] = System.nanoTime() - sent;
+                        return response.statusCode();
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                try {
+                    statusCounts.merge(future.get(), 1, Integer::sum);
+                } catch (Exception e) {
+                    failures++;
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] sorted = Arrays.stream(latencies).filter(l -> l > 0).sorted().toArray();
+        System.out.println("Load test " + uri + " (" + requests + " requests, concurrency " + concurrency + ")");
+        System.out.println("  status:     " + statusCounts + (failures > 0 ? ", failed: " + failures : ""));
+        System.out.printf("  throughput: %.1f req/s%n", requests / (elapsed / 1_000_000_000.0));
+        if (sorted.length > 0) {
+            System.out.printf("  latency ms: p50=%.2f p90=%.2f p99=%.2f max=%.2f%n",
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.90)),
+                    millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]));
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
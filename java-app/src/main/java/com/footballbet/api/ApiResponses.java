@@ -0,0 +1,167 @@
+package com.footballbet.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+public class ApiResponses {
+    private static final int MIN_GZIP_BYTES = 1024;
+
+    // Versions restart at zero with the process, so ETags carry a per-boot prefix.
+    private static final String BOOT_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    private ApiResponses() {
+    }
+
+    public static void sendJson(HttpExchange exchange, int statusCode, String json) throws IOException {
+        sendJson(exchange, statusCode, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void sendJson(HttpExchange exchange, int statusCode, byte[] bytes) throws IOException {
+        if (bytes.length >= MIN_GZIP_BYTES && acceptsGzip(exchange)) {
+            sendGzippedJson(exchange, statusCode, gzip(bytes));
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+        exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    public static void sendGzippedJson(HttpExchange exchange, int statusCode, byte[] gzipped) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+        tagGzipped(exchange);
+        exchange.sendResponseHeaders(statusCode, gzipped.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(gzipped);
+        }
+    }
+
+    // Chunked JSON body for streamed responses, compressed when the client allows it.
+    public static OutputStream openJson(HttpExchange exchange, int statusCode) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+        if (!acceptsGzip(exchange)) {
+            exchange.sendResponseHeaders(statusCode, 0);
+            return exchange.getResponseBody();
+        }
+        exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        tagGzipped(exchange);
+        exchange.sendResponseHeaders(statusCode, 0);
+        return new GZIPOutputStream(exchange.getResponseBody(), 8192);
+    }
+
+    public static void sendMessage(HttpExchange exchange, int statusCode, String message) throws IOException {
+        sendJson(exchange, statusCode, "{\"message\": \"" + escape(message) + "\"}");
+    }
+
+    public static String etag(String kind, long version) {
+        return "\"" + BOOT_ID + "-" + kind + Long.toHexString(version) + "\"";
+    }
+
+    // Sets the ETag and answers 304 when If-None-Match already names it. The tag only gains its -gzip suffix once
+    // a body is actually compressed, so a cache never answers one encoding's validator with the other encoding's
+    // body. A version's body always has the same size, so a gzip client holding the identity tag got identity.
+    public static boolean notModified(HttpExchange exchange, String etag) throws IOException {
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch == null)
+            return false;
+        if (!matchesEtag(ifNoneMatch, etag) && !(acceptsGzip(exchange) && matchesEtag(ifNoneMatch, gzipEtag(etag))))
+            return false;
+        exchange.sendResponseHeaders(304, -1);
+        exchange.close();
+        return true;
+    }
+
+    public static boolean acceptsGzip(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (header == null)
+            return false;
+        for (String part : header.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*"))
+                continue;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=") && isZero(param.substring(2)))
+                    return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    public static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static void tagGzipped(HttpExchange exchange) {
+        String etag = exchange.getResponseHeaders().getFirst("ETag");
+        if (etag != null && !etag.endsWith("-gzip\""))
+            exchange.getResponseHeaders().set("ETag", gzipEtag(etag));
+    }
+
+    private static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    private static boolean matchesEtag(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*"))
+                return true;
+            if (value.startsWith("W/"))
+                value = value.substring(2);
+            if (value.equals(etag))
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String q) {
+        try {
+            return Double.parseDouble(q.trim()) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String escape(String text) {
+        if (text == null)
+            return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
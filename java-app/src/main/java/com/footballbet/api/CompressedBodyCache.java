@@ -0,0 +1,38 @@
+package com.footballbet.api;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Size-bounded LRU of gzipped response bodies. Keys include the content ETag, so an entry can never
+// be served for changed data; superseded entries simply age out.
+public class CompressedBodyCache {
+    private final long maxBytes;
+    private final LinkedHashMap<String, byte[]> entries;
+    private long totalBytes;
+
+    public CompressedBodyCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true);
+    }
+
+    public synchronized byte[] get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(String key, byte[] body) {
+        if (body.length > maxBytes)
+            return;
+        byte[] previous = entries.put(key, body);
+        totalBytes += body.length - (previous == null ? 0 : previous.length);
+        Iterator<Map.Entry<String, byte[]>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            totalBytes -= it.next().getValue().length;
+            it.remove();
+        }
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+}
@@ -0,0 +1,186 @@
+package com.footballbet.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballbet.dto.crawler.CrawlerLogs;
+import com.footballbet.dto.crawler.CrawlerState;
+import com.footballbet.service.crawler.PythonCrawlerService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Server-Sent Events for crawler state. One scheduler thread builds each event and hands it to every
+// subscriber's bounded queue; each subscriber drains its own queue on a virtual thread, so a slow
+// client only delays itself, and one that falls a full queue behind is disconnected. Each tick
+// compares the state version and log sequence, so a burst of updates collapses into one event per interval.
+public class CrawlerEventBroadcaster implements HttpHandler {
+    public static final String PROPERTY_INTERVAL = "crawler.events.interval";
+
+    private static final long DEFAULT_INTERVAL_MS = 250;
+    private static final long HEARTBEAT_MS = 15_000;
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final int QUEUE_CAPACITY = 32;
+
+    private final PythonCrawlerService crawlerService;
+    private final ObjectMapper objectMapper;
+    private final List<Subscriber> subscribers;
+    private final ScheduledExecutorService scheduler;
+    private long lastVersion;
+    private long lastLogSeq;
+    private long lastSentAt;
+
+    public CrawlerEventBroadcaster(PythonCrawlerService crawlerService) {
+        this(crawlerService, Long.getLong(PROPERTY_INTERVAL, DEFAULT_INTERVAL_MS));
+    }
+
+    public CrawlerEventBroadcaster(PythonCrawlerService crawlerService, long intervalMillis) {
+        this.crawlerService = crawlerService;
+        this.objectMapper = new ObjectMapper();
+        this.subscribers = new CopyOnWriteArrayList<>();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "crawler-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lastVersion = crawlerService.getFullState().version();
+        this.lastLogSeq = crawlerService.getLastLogSeq();
+        scheduler.scheduleWithFixedDelay(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+
+        Subscriber subscriber = new Subscriber(exchange.getResponseBody());
+        subscriber.start();
+        try {
+            scheduler.execute(() -> subscribe(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.disconnect();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.disconnect();
+        }
+        subscribers.clear();
+    }
+
+    // Runs on the scheduler thread, so no tick can fall between reading the first status and joining the
+    // broadcast: every later change reaches the queue after the status it follows.
+    private void subscribe(Subscriber subscriber) {
+        try {
+            subscriber.offer(frame("status", objectMapper.writeValueAsBytes(crawlerService.getFullState())));
+            subscribers.add(subscriber);
+        } catch (IOException e) {
+            subscriber.disconnect();
+        }
+    }
+
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            CrawlerState state = crawlerService.getFullState();
+            if (state.version() != lastVersion) {
+                payload.write(frame("status", objectMapper.writeValueAsBytes(state)));
+                lastVersion = state.version();
+            }
+            if (crawlerService.getLastLogSeq() != lastLogSeq) {
+                CrawlerLogs logs = crawlerService.getLogs(lastLogSeq);
+                payload.write(frame("logs", objectMapper.writeValueAsBytes(logs)));
+                lastLogSeq = logs.lastSeq();
+            }
+            if (payload.size() == 0 && now - lastSentAt >= HEARTBEAT_MS) {
+                payload.write(HEARTBEAT);
+            }
+            if (payload.size() > 0) {
+                broadcast(payload.toByteArray());
+                lastSentAt = now;
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void broadcast(byte[] bytes) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(bytes)) {
+                subscribers.remove(subscriber);
+                subscriber.disconnect();
+            }
+        }
+    }
+
+    private static byte[] frame(String event, byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length + 32);
+        out.write(("event: " + event + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+        out.write(json);
+        out.write("\n\n".getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static void closeQuietly(OutputStream os) {
+        try {
+            os.close();
+        } catch (IOException e) {
+        }
+    }
+
+    // Interrupting the writer closes a socket write that is blocked on a stalled client, so disconnecting never
+    // waits on the client; the writer closes the stream itself on the way out.
+    private final class Subscriber {
+        private final OutputStream os;
+        private final BlockingQueue<byte[]> queue;
+        private Thread writer;
+
+        Subscriber(OutputStream os) {
+            this.os = os;
+            this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        }
+
+        void start() {
+            writer = Thread.ofVirtual().name("crawler-events-writer").start(this::drain);
+        }
+
+        boolean offer(byte[] bytes) {
+            return queue.offer(bytes);
+        }
+
+        void disconnect() {
+            writer.interrupt();
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    byte[] bytes = queue.take();
+                    os.write(bytes);
+                    os.flush();
+                }
+            } catch (IOException | InterruptedException e) {
+            } finally {
+                subscribers.remove(this);
+                closeQuietly(os);
+            }
+        }
+    }
+}
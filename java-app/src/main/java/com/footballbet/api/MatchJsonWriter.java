@@ -0,0 +1,155 @@
+package com.footballbet.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.footballbet.dto.match.MatchField;
+import com.footballbet.model.Match;
+import com.footballbet.model.Result;
+import com.footballbet.repository.InMemoryMatchRepository;
+import com.footballbet.store.MatchTable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+// Writes MatchTable rows as JSON objects. Rows that already have a result are encoded once per field
+// projection and replayed as raw UTF-8; entries are evicted when the dataset republishes those matches.
+// The cache holds at most MAX_CACHED_ROWS rows across all projections; past that, rows are encoded per request.
+public class MatchJsonWriter {
+    private static final int MAX_CACHED_PROJECTIONS = 16;
+    private static final int MAX_CACHED_ROWS = 100_000;
+    private static final MatchField[] FIELDS = MatchField.values();
+
+    private final JsonFactory jsonFactory;
+    private final LongSupplier currentVersion;
+    private final Map<Integer, Map<Long, SerializedString>> cache;
+    private final AtomicInteger cachedRows;
+
+    public MatchJsonWriter(JsonFactory jsonFactory, LongSupplier currentVersion) {
+        this.jsonFactory = jsonFactory;
+        this.currentVersion = currentVersion;
+        this.cache = new ConcurrentHashMap<>();
+        this.cachedRows = new AtomicInteger();
+    }
+
+    public void write(JsonGenerator gen, MatchTable table, int index, int fieldMask, long version)
+            throws IOException {
+        if (!isSettled(table, index)) {
+            writeObject(gen, table, index, fieldMask);
+            return;
+        }
+
+        Map<Long, SerializedString> rows = rowsFor(fieldMask);
+        if (rows == null) {
+            writeObject(gen, table, index, fieldMask);
+            return;
+        }
+        long key = InMemoryMatchRepository.key(table.round(index), table.matchNo(index));
+        SerializedString json = rows.get(key);
+        if (json == null) {
+            json = encode(table, index, fieldMask);
+            // A snapshot taken before the latest publish may hold stale values, so it is not cached.
+            if (version == currentVersion.getAsLong() && cachedRows.get() < MAX_CACHED_ROWS
+                    && rows.putIfAbsent(key, json) == null) {
+                cachedRows.incrementAndGet();
+                // A publish that landed between the check and the put may already have run its eviction, so the
+                // version is read again and the entry withdrawn rather than left stale.
+                if (version != currentVersion.getAsLong() && rows.remove(key, json))
+                    cachedRows.decrementAndGet();
+            }
+        }
+        gen.writeRawValue(json);
+    }
+
+    public void evict(List<Match> changed) {
+        if (cache.isEmpty())
+            return;
+        for (Map<Long, SerializedString> rows : cache.values()) {
+            for (Match match : changed) {
+                if (rows.remove(InMemoryMatchRepository.key(match.getRound(), match.getMatchNo())) != null)
+                    cachedRows.decrementAndGet();
+            }
+        }
+    }
+
+    public int cachedRows() {
+        return cachedRows.get();
+    }
+
+    private Map<Long, SerializedString> rowsFor(int fieldMask) {
+        Map<Long, SerializedString> rows = cache.get(fieldMask);
+        if (rows != null || cache.size() >= MAX_CACHED_PROJECTIONS)
+            return rows;
+        return cache.computeIfAbsent(fieldMask, m -> new ConcurrentHashMap<>());
+    }
+
+    private SerializedString encode(MatchTable table, int index, int fieldMask) throws IOException {
+        StringWriter out = new StringWriter(256);
+        try (JsonGenerator gen = jsonFactory.createGenerator(out)) {
+            writeObject(gen, table, index, fieldMask);
+        }
+        SerializedString json = new SerializedString(out.toString());
+        json.asUnquotedUTF8();
+        return json;
+    }
+
+    private static boolean isSettled(MatchTable table, int index) {
+        byte result = table.resultOrdinal(index);
+        return result != MatchTable.NO_VALUE && result != Result.UNKNOWN.ordinal();
+    }
+
+    private static void writeObject(JsonGenerator gen, MatchTable table, int index, int fieldMask)
+            throws IOException {
+        gen.writeStartObject();
+        for (MatchField field : FIELDS) {
+            if ((fieldMask & field.bit()) == 0)
+                continue;
+            gen.writeFieldName(field.getJsonName());
+            switch (field) {
+                case ROUND -> gen.writeNumber(table.round(index));
+                case MATCH_NO -> gen.writeNumber(table.matchNo(index));
+                case DATE_TIME -> writeNullable(gen, table.dateTime(index));
+                case LEAGUE -> gen.writeString(table.league(index));
+                case HOME -> gen.writeString(table.home(index));
+                case AWAY -> gen.writeString(table.away(index));
+                case TYPE -> writeNullable(gen, table.type(index));
+                case WIN_ODD -> writeOdd(gen, table.winOdd(index));
+                case DRAW_ODD -> writeOdd(gen, table.drawOdd(index));
+                case LOSE_ODD -> writeOdd(gen, table.loseOdd(index));
+                case SCORE -> {
+                    if (table.scoreHome(index) == MatchTable.NO_VALUE) {
+                        gen.writeNull();
+                    } else {
+                        gen.writeStartObject();
+                        gen.writeNumberField("home", table.scoreHome(index));
+                        gen.writeNumberField("away", table.scoreAway(index));
+                        gen.writeEndObject();
+                    }
+                }
+                case RESULT -> writeNullable(gen, table.result(index));
+                case RESULT_ODD -> writeOdd(gen, table.resultOdd(index));
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeOdd(JsonGenerator gen, double odd) throws IOException {
+        if (Double.isNaN(odd)) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(odd);
+        }
+    }
+
+    private static void writeNullable(JsonGenerator gen, Object value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value instanceof Enum<?> e ? e.name() : value.toString());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.footballbet.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+
+// Exact (method, path) route table with CORS handling and an optional in-flight request limit.
+public class Router implements HttpHandler {
+    private final Map<String, Map<String, HttpHandler>> routes;
+    private final Semaphore permits;
+
+    public Router(int maxConcurrentRequests) {
+        this.routes = new HashMap<>();
+        this.permits = maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests) : null;
+    }
+
+    public Router get(String path, HttpHandler handler) {
+        return route("GET", path, handler);
+    }
+
+    public Router post(String path, HttpHandler handler) {
+        return route("POST", path, handler);
+    }
+
+    // Routes are registered before the server starts and are read-only afterwards.
+    public Router route(String method, String path, HttpHandler handler) {
+        routes.computeIfAbsent(normalize(path), p -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
+                .put(method, handler);
+        return this;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        // Enable CORS
+        exchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
+        exchange.getResponseHeaders().add("Access-Control-Allow-Methods", "GET, POST, OPTIONS");
+        exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "Content-Type");
+
+        String method = exchange.getRequestMethod();
+        if (method.equalsIgnoreCase("OPTIONS")) {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+            return;
+        }
+
+        Map<String, HttpHandler> byMethod = routes.get(normalize(exchange.getRequestURI().getPath()));
+        if (byMethod == null) {
+            ApiResponses.sendMessage(exchange, 404, "Not Found");
+            return;
+        }
+        HttpHandler handler = byMethod.get(method);
+        if (handler == null) {
+            exchange.getResponseHeaders().set("Allow", String.join(", ", byMethod.keySet()));
+            ApiResponses.sendMessage(exchange, 405, "Method Not Allowed");
+            return;
+        }
+
+        if (permits != null && !permits.tryAcquire()) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            ApiResponses.sendMessage(exchange, 503, "Server busy");
+            return;
+        }
+        try {
+            handler.handle(exchange);
+        } catch (Exception e) {
+            e.printStackTrace();
+            if (exchange.getResponseCode() == -1) {
+                ApiResponses.sendMessage(exchange, 500, "Internal Server Error: " + e.getMessage());
+            } else {
+                exchange.close();
+            }
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    private static String normalize(String path) {
+        if (path.length() > 1 && path.endsWith("/")) {
+            return path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+}
@@ -1,27 +1,79 @@
 package com.footballbet.api;
 
+import com.footballbet.common.CrawlerConstants;
+import com.footballbet.controller.AnalysisApiController;
 import com.footballbet.controller.CrawlerController;
+import com.footballbet.controller.MatchApiController;
+import com.footballbet.repository.InMemoryMatchRepository;
+import com.footballbet.service.crawler.PythonCrawlerService;
+import com.footballbet.service.ingest.MatchIngestionService;
+import com.footballbet.service.signal.SignalEngine;
+import com.footballbet.store.MatchDataset;
+import com.footballbet.store.OddsCubes;
 import com.sun.net.httpserver.HttpServer;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class SimpleApiServer {
+    public static final String PROPERTY_MAX_CONCURRENT = "api.maxConcurrent";
+    public static final String PROPERTY_DRAIN_SECONDS = "api.drainSeconds";
 
     private HttpServer server;
+    private ExecutorService executor;
+    private MatchIngestionService ingestionService;
+    private CrawlerEventBroadcaster eventBroadcaster;
     private static final int PORT = 8080;
 
     public void start() throws IOException {
+        InMemoryMatchRepository repository = new InMemoryMatchRepository();
+        MatchDataset dataset = new MatchDataset();
+        ingestionService = new MatchIngestionService(CrawlerConstants.DIR_DATA_CRAWLED_BETINFO, repository, dataset);
+        ingestionService.start();
+
+        PythonCrawlerService crawlerService = new PythonCrawlerService();
+        crawlerService.addRecordListener(ingestionService::submit);
+        crawlerService.addCompletionListener(ingestionService::requestScan);
+
+        eventBroadcaster = new CrawlerEventBroadcaster(crawlerService);
+
+        Router router = new Router(Integer.getInteger(PROPERTY_MAX_CONCURRENT, 0));
+        new CrawlerController(crawlerService).registerRoutes(router);
+        router.get("/api/crawler/events", eventBroadcaster);
+        new MatchApiController(dataset).registerRoutes(router);
+        new AnalysisApiController(dataset, new SignalEngine(dataset), new OddsCubes(dataset)).registerRoutes(router);
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
         server = HttpServer.create(new InetSocketAddress(PORT), 0);
-        server.createContext("/api/crawler", new CrawlerController());
-        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api", router);
+        server.setExecutor(executor);
         server.start();
         System.out.println("Server started on port " + PORT);
     }
 
     public void stop() {
+        if (eventBroadcaster != null) {
+            eventBroadcaster.stop();
+        }
         if (server != null) {
-            server.stop(0);
+            // Stops accepting connections and waits up to the drain period for in-flight exchanges.
+            server.stop(Integer.getInteger(PROPERTY_DRAIN_SECONDS, 5));
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (ingestionService != null) {
+            ingestionService.stop();
         }
     }
 }
@@ -25,6 +25,9 @@ public class CrawlerConstants {
     public static final String DIR_DATA_CRAWLED_FLASHSCORE = DIR_DATA + "/crawled/flashscore";
     public static final String DIR_DATA_CRAWLED_BETINFO = DIR_DATA + "/crawled/betinfo";
 
+    public static final String BETINFO_ROUND_FILE_PREFIX = "betinfo_proto_round_";
+    public static final String CSV_EXTENSION = ".csv";
+
     private CrawlerConstants() {
     }
 }
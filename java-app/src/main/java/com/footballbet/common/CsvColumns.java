@@ -0,0 +1,20 @@
+package com.footballbet.common;
+
+public class CsvColumns {
+    public static final String ROUND = "회차";
+    public static final String MATCH_NO = "경기번호";
+    public static final String DATE_TIME = "날짜 및 시간";
+    public static final String LEAGUE = "리그명";
+    public static final String HOME = "홈";
+    public static final String AWAY = "원정";
+    public static final String TYPE = "유형";
+    public static final String WIN_ODD = "승(국내)";
+    public static final String DRAW_ODD = "무(국내)";
+    public static final String LOSE_ODD = "패(국내)";
+    public static final String SCORE = "스코어";
+    public static final String RESULT = "경기 결과";
+    public static final String RESULT_ODD = "결과 배당";
+
+    private CsvColumns() {
+    }
+}
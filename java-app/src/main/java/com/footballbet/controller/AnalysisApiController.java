@@ -0,0 +1,182 @@
+package com.footballbet.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballbet.api.ApiResponses;
+import com.footballbet.api.QueryParams;
+import com.footballbet.api.Router;
+import com.footballbet.dto.odds.OddsBasis;
+import com.footballbet.dto.odds.OddsCubeDimension;
+import com.footballbet.dto.odds.OddsCubeQuery;
+import com.footballbet.dto.odds.OddsCubeSlice;
+import com.footballbet.dto.parlay.ParlayStats;
+import com.footballbet.dto.signal.MatchSignalEntry;
+import com.footballbet.dto.signal.SignalReport;
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.service.parlay.ParlayCalculator;
+import com.footballbet.service.parlay.ParlayObjective;
+import com.footballbet.service.parlay.ParlayRequest;
+import com.footballbet.service.signal.SignalEngine;
+import com.footballbet.store.MatchDataset;
+import com.footballbet.store.MatchTable;
+import com.footballbet.store.OddsCube;
+import com.footballbet.store.OddsCubes;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public class AnalysisApiController {
+
+    private final MatchDataset dataset;
+    private final ObjectMapper objectMapper;
+    private final ParlayCalculator parlayCalculator;
+    private final SignalEngine signalEngine;
+    private final OddsCubes oddsCubes;
+
+    public AnalysisApiController(MatchDataset dataset, SignalEngine signalEngine, OddsCubes oddsCubes) {
+        this.dataset = dataset;
+        this.objectMapper = new ObjectMapper();
+        this.parlayCalculator = new ParlayCalculator();
+        this.signalEngine = signalEngine;
+        this.oddsCubes = oddsCubes;
+    }
+
+    public void registerRoutes(Router router) {
+        router.get("/api/parlay", this::handleParlay)
+                .get("/api/signals", this::handleSignals)
+                .get("/api/signals/matches", this::handleMatchSignals)
+                .get("/api/odds/cube", this::handleOddsCube);
+    }
+
+    private void handleSignals(HttpExchange exchange) throws IOException {
+        SignalReport report = signalEngine.report();
+        if (ApiResponses.notModified(exchange, ApiResponses.etag("g", report.version())))
+            return;
+        ApiResponses.sendJson(exchange, 200, objectMapper.writeValueAsBytes(report));
+    }
+
+    private void handleMatchSignals(HttpExchange exchange) throws IOException {
+        Map<String, String> params = QueryParams.parse(exchange.getRequestURI());
+        int roundFrom;
+        int roundTo;
+        try {
+            int latest = signalEngine.latestRound();
+            roundFrom = Integer.parseInt(params.getOrDefault("roundFrom", params.getOrDefault("round", String.valueOf(latest))));
+            roundTo = Integer.parseInt(params.getOrDefault("roundTo", params.getOrDefault("round", String.valueOf(roundFrom))));
+        } catch (NumberFormatException e) {
+            ApiResponses.sendMessage(exchange, 400, "Invalid round parameter");
+            return;
+        }
+        long version = signalEngine.version();
+        List<MatchSignalEntry> signals = signalEngine.signals(roundFrom, roundTo);
+        if (ApiResponses.notModified(exchange, ApiResponses.etag("g", version)))
+            return;
+        ApiResponses.sendJson(exchange, 200, objectMapper.writeValueAsBytes(signals));
+    }
+
+    private void handleOddsCube(HttpExchange exchange) throws IOException {
+        Map<String, String> params = QueryParams.parse(exchange.getRequestURI());
+        OddsCube cube;
+        OddsCubeQuery query;
+        try {
+            cube = oddsCubes.get(Double.parseDouble(params.getOrDefault("width", "0.1")),
+                    OddsBasis.from(params.getOrDefault("basis", "FAVORITE")));
+            query = new OddsCubeQuery(
+                    parseSet(params.get("type"), value -> MatchType.valueOf(value.toUpperCase(Locale.ROOT))),
+                    parseSet(params.get("league"), Function.identity()),
+                    parseSet(params.get("outcome"), value -> value.toUpperCase(Locale.ROOT)),
+                    params.containsKey("minOdd") ? Double.parseDouble(params.get("minOdd")) : Double.NaN,
+                    params.containsKey("maxOdd") ? Double.parseDouble(params.get("maxOdd")) : Double.NaN,
+                    parseSet(params.getOrDefault("groupBy", "bucket,outcome"), OddsCubeDimension::from));
+        } catch (IllegalArgumentException e) {
+            ApiResponses.sendMessage(exchange, 400, e.getMessage());
+            return;
+        }
+        // Slices are cheap, so the tag comes from the slice's own version rather than the dataset's, which can run
+        // ahead of what the listener has applied. The generation tells a rebuilt cube from an evicted one.
+        OddsCubeSlice slice = cube.slice(query);
+        if (ApiResponses.notModified(exchange, ApiResponses.etag("o" + cube.generation() + "-", slice.version())))
+            return;
+        ApiResponses.sendJson(exchange, 200, objectMapper.writeValueAsBytes(slice));
+    }
+
+    private void handleParlay(HttpExchange exchange) throws IOException {
+        Map<String, String> params = QueryParams.parse(exchange.getRequestURI());
+        MatchTable table = dataset.table();
+        ParlayRequest request;
+        int round;
+        boolean openOnly = Boolean.parseBoolean(params.get("open"));
+        try {
+            round = params.containsKey("round") ? Integer.parseInt(params.get("round"))
+                    : table.size() == 0 ? 0 : table.round(table.size() - 1);
+            request = new ParlayRequest(
+                    Integer.parseInt(params.getOrDefault("minLegs", "2")),
+                    Integer.parseInt(params.getOrDefault("maxLegs", "4")),
+                    ParlayObjective.from(params.getOrDefault("objective", "HIT_PROBABILITY")),
+                    Integer.parseInt(params.getOrDefault("top", "20")),
+                    Double.parseDouble(params.getOrDefault("minOdds", "1")),
+                    Double.parseDouble(params.getOrDefault("minProbability", "0")));
+        } catch (IllegalArgumentException e) {
+            ApiResponses.sendMessage(exchange, 400, e.getMessage());
+            return;
+        }
+        if (request.objective() == ParlayObjective.EXPECTED_VALUE && parlayCalculator.usesImpliedProbability()) {
+            ApiResponses.sendMessage(exchange, 400, "EXPECTED_VALUE needs a probability model other than the implied odds");
+            return;
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < table.size(); i++) {
+            if (table.round(i) != round)
+                continue;
+            Result result = table.result(i);
+            if (openOnly && result != null && result != Result.UNKNOWN)
+                continue;
+            matches.add(table.toMatch(i));
+        }
+
+        try (OutputStream os = ApiResponses.openJson(exchange, 200);
+                JsonGenerator gen = objectMapper.getFactory().createGenerator(os)) {
+            gen.writeStartObject();
+            gen.writeNumberField("round", round);
+            gen.writeArrayFieldStart("slips");
+            ParlayStats stats;
+            try {
+                stats = parlayCalculator.search(matches, request, slip -> {
+                    try {
+                        gen.writeObject(slip);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            gen.writeEndArray();
+            gen.writeObjectField("stats", stats);
+            gen.writeEndObject();
+        }
+    }
+
+    private static <T> Set<T> parseSet(String value, Function<String, T> parser) {
+        Set<T> values = new LinkedHashSet<>();
+        if (value == null)
+            return values;
+        for (String part : value.split(",")) {
+            if (!part.isBlank())
+                values.add(parser.apply(part.trim()));
+        }
+        return values;
+    }
+}
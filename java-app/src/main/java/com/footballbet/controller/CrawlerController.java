@@ -1,54 +1,35 @@
 package com.footballbet.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballbet.api.ApiResponses;
+import com.footballbet.api.Router;
+import com.footballbet.dto.crawler.CrawlerLogs;
 import com.footballbet.dto.crawler.CrawlerRequest;
+import com.footballbet.dto.crawler.CrawlerState;
 import com.footballbet.service.crawler.PythonCrawlerService;
 import com.sun.net.httpserver.HttpExchange;
-import com.sun.net.httpserver.HttpHandler;
 
 import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
 
-public class CrawlerController implements HttpHandler {
+public class CrawlerController {
 
     private final PythonCrawlerService crawlerService;
     private final ObjectMapper objectMapper;
 
     public CrawlerController() {
-        this.crawlerService = new PythonCrawlerService();
-        this.objectMapper = new ObjectMapper();
+        this(new PythonCrawlerService());
     }
 
-    @Override
-    public void handle(HttpExchange exchange) throws IOException {
-        // Enable CORS
-        exchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
-        exchange.getResponseHeaders().add("Access-Control-Allow-Methods", "GET, POST, OPTIONS");
-        exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "Content-Type");
-
-        if (exchange.getRequestMethod().equalsIgnoreCase("OPTIONS")) {
-            exchange.sendResponseHeaders(204, -1);
-            return;
-        }
-
-        String path = exchange.getRequestURI().getPath();
-        String method = exchange.getRequestMethod();
+    public CrawlerController(PythonCrawlerService crawlerService) {
+        this.crawlerService = crawlerService;
+        this.objectMapper = new ObjectMapper();
+    }
 
-        try {
-            if (path.endsWith("/start") && method.equalsIgnoreCase("POST")) {
-                handleStart(exchange);
-            } else if (path.endsWith("/stop") && method.equalsIgnoreCase("POST")) {
-                handleStop(exchange);
-            } else if (path.endsWith("/status") && method.equalsIgnoreCase("GET")) {
-                handleStatus(exchange);
-            } else {
-                sendResponse(exchange, 404, "Not Found");
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-            sendResponse(exchange, 500, "Internal Server Error: " + e.getMessage());
-        }
+    public void registerRoutes(Router router) {
+        router.post("/api/crawler/start", this::handleStart)
+                .post("/api/crawler/stop", this::handleStop)
+                .get("/api/crawler/status", this::handleStatus)
+                .get("/api/crawler/logs", this::handleLogs);
     }
 
     private void handleStart(HttpExchange exchange) throws IOException {
@@ -63,16 +44,34 @@ public class CrawlerController implements HttpHandler {
     }
 
     private void handleStatus(HttpExchange exchange) throws IOException {
-        String json = objectMapper.writeValueAsString(crawlerService.getFullState());
-        sendResponse(exchange, 200, json);
+        CrawlerState state = crawlerService.getFullState();
+        if (ApiResponses.notModified(exchange, ApiResponses.etag("s", state.version())))
+            return;
+        sendResponse(exchange, 200, objectMapper.writeValueAsString(state));
     }
 
-    private void sendResponse(HttpExchange exchange, int statusCode, String response) throws IOException {
-        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
-        exchange.getResponseHeaders().set("Content-Type", "application/json");
-        exchange.sendResponseHeaders(statusCode, bytes.length);
-        try (OutputStream os = exchange.getResponseBody()) {
-            os.write(bytes);
+    private void handleLogs(HttpExchange exchange) throws IOException {
+        long since = 0;
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null) {
+            for (String param : query.split("&")) {
+                if (param.startsWith("since=")) {
+                    try {
+                        since = Long.parseLong(param.substring("since=".length()));
+                    } catch (NumberFormatException e) {
+                        sendResponse(exchange, 400, "{\"message\": " + "\"Invalid since parameter\"}");
+                        return;
+                    }
+                }
+            }
         }
+        CrawlerLogs logs = crawlerService.getLogs(since);
+        if (ApiResponses.notModified(exchange, ApiResponses.etag("l", logs.lastSeq())))
+            return;
+        sendResponse(exchange, 200, objectMapper.writeValueAsString(logs));
+    }
+
+    private void sendResponse(HttpExchange exchange, int statusCode, String response) throws IOException {
+        ApiResponses.sendJson(exchange, statusCode, response);
     }
 }
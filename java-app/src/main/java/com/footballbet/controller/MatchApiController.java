@@ -0,0 +1,280 @@
+package com.footballbet.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballbet.api.ApiResponses;
+import com.footballbet.api.CompressedBodyCache;
+import com.footballbet.api.MatchJsonWriter;
+import com.footballbet.api.QueryParams;
+import com.footballbet.api.Router;
+import com.footballbet.dto.match.MatchField;
+import com.footballbet.dto.match.MatchQuery;
+import com.footballbet.dto.team.TeamForm;
+import com.footballbet.repository.InMemoryMatchRepository;
+import com.footballbet.service.alias.TeamAliasResolver;
+import com.footballbet.store.MatchDataset;
+import com.footballbet.store.MatchTable;
+import com.footballbet.store.RoundDigests;
+import com.footballbet.store.StringDictionary;
+import com.footballbet.store.TeamTimelineIndex;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+public class MatchApiController {
+    public static final String PROPERTY_GZIP_CACHE_BYTES = "api.gzipCacheBytes";
+    public static final String PROPERTY_FORM_LENGTH = "teams.formLength";
+
+    private static final long DEFAULT_GZIP_CACHE_BYTES = 8L * 1024 * 1024;
+    private static final int DEFAULT_FORM_LENGTH = 5;
+    private static final int MAX_TEAM_LIMIT = 1000;
+
+    private final MatchDataset dataset;
+    private final JsonFactory jsonFactory;
+    private final MatchJsonWriter jsonWriter;
+    private final AtomicReference<RoundDigests> digests;
+    private final AtomicReference<TeamTimelineIndex> timelines;
+    private final CompressedBodyCache compressedBodies;
+    private final int formLength;
+
+    public MatchApiController(MatchDataset dataset) {
+        this.dataset = dataset;
+        this.jsonFactory = new ObjectMapper().getFactory();
+        this.jsonWriter = new MatchJsonWriter(jsonFactory, dataset::version);
+        this.digests = new AtomicReference<>();
+        this.timelines = new AtomicReference<>();
+        this.formLength = Integer.getInteger(PROPERTY_FORM_LENGTH, DEFAULT_FORM_LENGTH);
+        this.compressedBodies = new CompressedBodyCache(Long.getLong(PROPERTY_GZIP_CACHE_BYTES, DEFAULT_GZIP_CACHE_BYTES));
+        dataset.addListener(jsonWriter::evict);
+    }
+
+    public void registerRoutes(Router router) {
+        router.get("/api/matches", this::handleMatches)
+                .get("/api/teams/timeline", this::handleTeamTimeline)
+                .get("/api/teams/hottest", this::handleHottestTeams)
+                .get("/api/aliases/stats", this::handleAliasStats);
+    }
+
+    private void handleMatches(HttpExchange exchange) throws IOException {
+        MatchQuery query;
+        try {
+            query = MatchQuery.from(QueryParams.parse(exchange.getRequestURI()));
+        } catch (IllegalArgumentException e) {
+            ApiResponses.sendMessage(exchange, 400, e.getMessage());
+            return;
+        }
+
+        MatchDataset.Snapshot snapshot = dataset.snapshot();
+        RoundDigests roundDigests = digestsFor(snapshot);
+        String etag = ApiResponses.etag("m", roundDigests.digest(query.roundFrom(), query.roundTo()));
+        if (ApiResponses.notModified(exchange, etag))
+            return;
+
+        // Pages made only of settled rounds cannot change under the same ETag, so their gzip bodies are kept.
+        if (ApiResponses.acceptsGzip(exchange) && roundDigests.isSettled(query.roundFrom(), query.roundTo())) {
+            String key = etag + exchange.getRequestURI().getRawQuery();
+            byte[] body = compressedBodies.get(key);
+            if (body == null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                    writeMatches(gzip, snapshot, query);
+                }
+                body = out.toByteArray();
+                compressedBodies.put(key, body);
+            }
+            ApiResponses.sendGzippedJson(exchange, 200, body);
+            return;
+        }
+
+        try (OutputStream os = ApiResponses.openJson(exchange, 200)) {
+            writeMatches(os, snapshot, query);
+        }
+    }
+
+    private void writeMatches(OutputStream os, MatchDataset.Snapshot snapshot, MatchQuery query) throws IOException {
+        MatchTable table = snapshot.table();
+        int leagueId = query.league() == null ? StringDictionary.NO_ID : table.leagues().find(query.league());
+        int teamId = query.team() == null ? StringDictionary.NO_ID : table.teams().find(query.team());
+        boolean unmatched = (query.league() != null && leagueId == StringDictionary.NO_ID)
+                || (query.team() != null && teamId == StringDictionary.NO_ID);
+
+        // No dataset version in the body: the page is validated by its round digest and settled pages are replayed
+        // from the gzip cache across publishes, so a version here would go stale.
+        try (JsonGenerator gen = jsonFactory.createGenerator(os)) {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("items");
+
+            int count = 0;
+            int last = -1;
+            boolean more = false;
+            int i = unmatched ? table.size() : startIndex(table, query);
+            for (; i < table.size() && table.round(i) <= query.roundTo(); i++) {
+                if (!matches(table, i, query, leagueId, teamId))
+                    continue;
+                if (count == query.limit()) {
+                    more = true;
+                    break;
+                }
+                jsonWriter.write(gen, table, i, query.fieldMask(), snapshot.version());
+                last = i;
+                count++;
+            }
+
+            gen.writeEndArray();
+            gen.writeNumberField("count", count);
+            if (more) {
+                gen.writeStringField("nextCursor",
+                        Long.toString(InMemoryMatchRepository.key(table.round(last), table.matchNo(last))));
+            } else {
+                gen.writeNullField("nextCursor");
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private void handleTeamTimeline(HttpExchange exchange) throws IOException {
+        Map<String, String> params = QueryParams.parse(exchange.getRequestURI());
+        int limit;
+        int fieldMask;
+        try {
+            limit = teamLimit(params, "limit", MAX_TEAM_LIMIT);
+            fieldMask = MatchField.mask(params.get("fields"));
+        } catch (IllegalArgumentException e) {
+            ApiResponses.sendMessage(exchange, 400, e.getMessage());
+            return;
+        }
+
+        MatchDataset.Snapshot snapshot = dataset.snapshot();
+        TeamTimelineIndex index = timelinesFor(snapshot);
+        int teamId = index.teamId(params.get("team"));
+        if (teamId == StringDictionary.NO_ID) {
+            ApiResponses.sendMessage(exchange, 404, "Unknown team: " + params.get("team"));
+            return;
+        }
+        if (ApiResponses.notModified(exchange, ApiResponses.etag("t", snapshot.version())))
+            return;
+
+        MatchTable table = snapshot.table();
+        try (OutputStream os = ApiResponses.openJson(exchange, 200);
+                JsonGenerator gen = jsonFactory.createGenerator(os)) {
+            gen.writeStartObject();
+            gen.writeNumberField("version", snapshot.version());
+            gen.writeObjectField("form", index.form(teamId));
+            gen.writeArrayFieldStart("items");
+            int[] rows = index.latest(teamId, limit);
+            for (int row : rows) {
+                jsonWriter.write(gen, table, row, fieldMask, snapshot.version());
+            }
+            gen.writeEndArray();
+            gen.writeNumberField("count", rows.length);
+            gen.writeEndObject();
+        }
+    }
+
+    private void handleHottestTeams(HttpExchange exchange) throws IOException {
+        int top;
+        try {
+            top = teamLimit(QueryParams.parse(exchange.getRequestURI()), "top", 10);
+        } catch (IllegalArgumentException e) {
+            ApiResponses.sendMessage(exchange, 400, e.getMessage());
+            return;
+        }
+        MatchDataset.Snapshot snapshot = dataset.snapshot();
+        if (ApiResponses.notModified(exchange, ApiResponses.etag("t", snapshot.version())))
+            return;
+        List<TeamForm> hottest = timelinesFor(snapshot).hottest(top);
+        try (OutputStream os = ApiResponses.openJson(exchange, 200);
+                JsonGenerator gen = jsonFactory.createGenerator(os)) {
+            gen.writeStartObject();
+            gen.writeNumberField("version", snapshot.version());
+            gen.writeObjectField("items", hottest);
+            gen.writeEndObject();
+        }
+    }
+
+    private void handleAliasStats(HttpExchange exchange) throws IOException {
+        try (OutputStream os = ApiResponses.openJson(exchange, 200);
+                JsonGenerator gen = jsonFactory.createGenerator(os)) {
+            gen.writeObject(TeamAliasResolver.getDefault().stats());
+        }
+    }
+
+    private TeamTimelineIndex timelinesFor(MatchDataset.Snapshot snapshot) {
+        TeamTimelineIndex current = timelines.get();
+        if (current != null && current.version() == snapshot.version())
+            return current;
+        TeamTimelineIndex built = TeamTimelineIndex.of(snapshot.table(), snapshot.version(), formLength);
+        timelines.set(built);
+        return built;
+    }
+
+    private static int teamLimit(Map<String, String> params, String name, int defaultValue) {
+        String value = params.get(name);
+        int limit = value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+        if (limit < 1 || limit > MAX_TEAM_LIMIT) {
+            throw new IllegalArgumentException(name + " must be between 1 and " + MAX_TEAM_LIMIT);
+        }
+        return limit;
+    }
+
+    private RoundDigests digestsFor(MatchDataset.Snapshot snapshot) {
+        RoundDigests current = digests.get();
+        if (current != null && current.version() == snapshot.version())
+            return current;
+        RoundDigests built = RoundDigests.of(snapshot.table(), snapshot.version());
+        digests.set(built);
+        return built;
+    }
+
+    // Rows are published in (round, matchNo) order, so both the round range and the cursor are a binary search.
+    private static int startIndex(MatchTable table, MatchQuery query) {
+        long from = InMemoryMatchRepository.key(query.roundFrom(), 0);
+        if (query.cursor() != null && query.cursor() >= from) {
+            return lowerBound(table, query.cursor() + 1);
+        }
+        return lowerBound(table, from);
+    }
+
+    private static int lowerBound(MatchTable table, long key) {
+        int low = 0;
+        int high = table.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (InMemoryMatchRepository.key(table.round(mid), table.matchNo(mid)) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean matches(MatchTable table, int i, MatchQuery query, int leagueId, int teamId) {
+        if (leagueId != StringDictionary.NO_ID && table.leagueId(i) != leagueId)
+            return false;
+        if (teamId != StringDictionary.NO_ID && table.homeId(i) != teamId && table.awayId(i) != teamId)
+            return false;
+        if (query.type() != null && table.typeOrdinal(i) != query.type().ordinal())
+            return false;
+        if (query.result() != null && table.resultOrdinal(i) != query.result().ordinal())
+            return false;
+        if (query.hasOddRange()) {
+            double odd = switch (query.oddSide()) {
+                case WIN -> table.winOdd(i);
+                case DRAW -> table.drawOdd(i);
+                case LOSE -> table.loseOdd(i);
+                case RESULT -> table.resultOdd(i);
+            };
+            if (Double.isNaN(odd) || odd < query.minOdd() || odd > query.maxOdd())
+                return false;
+        }
+        return true;
+    }
+}
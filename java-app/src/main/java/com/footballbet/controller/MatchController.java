@@ -1,12 +1,57 @@
 package com.footballbet.controller;
 
+import com.footballbet.common.CrawlerConstants;
+import com.footballbet.dto.alias.AliasStats;
+import com.footballbet.dto.join.JoinReport;
+import com.footballbet.dto.join.MatchJoinMiss;
+import com.footballbet.dto.load.LoadReport;
+import com.footballbet.dto.quality.RoundQuality;
 import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.dto.simulation.BacktestResult;
 import com.footballbet.service.MatchService;
+import com.footballbet.service.alias.TeamAliasResolver;
+import com.footballbet.service.join.MatchJoiner;
+import com.footballbet.service.quality.DataQualityValidator;
+import com.footballbet.service.simulation.BacktestEngine;
+import com.footballbet.service.simulation.MonteCarloSimulator;
+import com.footballbet.service.simulation.PickRule;
+import com.footballbet.service.simulation.Strategies;
+import com.footballbet.service.simulation.Strategy;
+import com.footballbet.service.simulation.StrategyBets;
+import com.footballbet.store.MatchTable;
+import com.footballbet.store.MemoryFootprint;
+import com.footballbet.util.FlashscoreCsvLoader;
 import com.footballbet.view.ConsoleView;
+import com.footballbet.view.MatchJsonStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class MatchController {
+    private static final String OPT_PARALLEL = "--parallel";
+    private static final String OPT_FOOTPRINT = "--footprint";
+    private static final String OPT_SNAPSHOT = "--snapshot";
+    private static final String OPT_NDJSON = "--ndjson";
+    private static final String OPT_BACKTEST = "--backtest";
+    private static final String OPT_MONTE_CARLO = "--montecarlo";
+    private static final String OPT_ALIASES = "--aliases";
+    private static final String OPT_JOIN = "--join";
+    private static final String OPT_QUALITY = "--quality";
+    private static final String PROPERTY_MC_PATHS = "mc.paths";
+    private static final String PROPERTY_MC_SEED = "mc.seed";
+    private static final String PROPERTY_JOIN_SOURCE = "join.flashscore";
+    private static final String PROPERTY_JOIN_TOLERANCE = "join.toleranceMinutes";
+    private static final int JOIN_LISTED = 20;
+    private static final int BACKTEST_TOP = 20;
+
     private final MatchService matchService;
     private final ConsoleView view;
 
@@ -17,8 +62,37 @@ public class MatchController {
 
     public void run(String[] args) {
         String path = "../data";
-        if (args.length >= 1) {
-            path = args[0];
+        boolean parallel = false;
+        boolean footprint = false;
+        boolean snapshot = false;
+        boolean ndjson = false;
+        boolean backtest = false;
+        boolean monteCarlo = false;
+        boolean aliases = false;
+        boolean join = false;
+        boolean quality = false;
+        for (String arg : args) {
+            if (arg.equals(OPT_PARALLEL)) {
+                parallel = true;
+            } else if (arg.equals(OPT_FOOTPRINT)) {
+                footprint = true;
+            } else if (arg.equals(OPT_SNAPSHOT)) {
+                snapshot = true;
+            } else if (arg.equals(OPT_NDJSON)) {
+                ndjson = true;
+            } else if (arg.equals(OPT_BACKTEST)) {
+                backtest = true;
+            } else if (arg.equals(OPT_MONTE_CARLO)) {
+                monteCarlo = true;
+            } else if (arg.equals(OPT_ALIASES)) {
+                aliases = true;
+            } else if (arg.equals(OPT_JOIN)) {
+                join = true;
+            } else if (arg.equals(OPT_QUALITY)) {
+                quality = true;
+            } else if (!arg.startsWith("--")) {
+                path = arg;
+            }
         }
 
         File fileOrDir = new File(path);
@@ -28,11 +102,178 @@ public class MatchController {
         }
 
         try {
-            List<Match> allMatches = matchService.loadMatches(path);
-            view.displayMatches(allMatches);
+            if (ndjson && !snapshot && !parallel && !footprint && !backtest && !monteCarlo && !aliases
+                    && !join && !quality) {
+                streamNdjson(path);
+                return;
+            }
+
+            LoadReport report = snapshot ? matchService.loadMatchesCached(path)
+                    : parallel ? matchService.loadMatchesParallel(path) : matchService.loadMatches(path);
+            System.err.println(report.summary());
+            List<Match> allMatches = report.matches();
+            List<RoundQuality> rounds = report.quality();
+            reportUnknownInputs();
+            if (footprint) {
+                System.err.println(MemoryFootprint.report(allMatches, MatchTable.from(allMatches)));
+            }
+            if (quality) {
+                reportQuality(allMatches, rounds);
+                return;
+            }
+            if (aliases) {
+                reportAliases(allMatches);
+                return;
+            }
+            if (join) {
+                runJoin(allMatches);
+                return;
+            }
+            if (backtest || monteCarlo) {
+                if (backtest)
+                    runBacktest(allMatches);
+                if (monteCarlo)
+                    runMonteCarlo(allMatches);
+                return;
+            }
+            view.displayMatches(allMatches, ndjson);
         } catch (Exception e) {
             e.printStackTrace();
             System.exit(1);
         }
     }
+
+    // Re-resolves every loaded name through the warm cache to show steady-state throughput after the load.
+    private void reportAliases(List<Match> matches) {
+        TeamAliasResolver names = TeamAliasResolver.getDefault();
+        for (AliasStats stats : names.stats()) {
+            System.err.println(stats.summary());
+        }
+        long start = System.nanoTime();
+        int lookups = 0;
+        for (int round = 0; round < 10; round++) {
+            for (Match match : matches) {
+                names.league(match.getLeague());
+                names.team(match.getHome());
+                names.team(match.getAway());
+                lookups += 3;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        System.err.printf("Resolved %d names in %.1f ms (%.1f ns per lookup)%n", lookups, elapsed / 1_000_000.0,
+                lookups == 0 ? 0 : (double) elapsed / lookups);
+    }
+
+    // Reports come from the load, which validates every file; the timing pass validates the loaded rows again on
+    // this thread to show validation throughput.
+    private void reportQuality(List<Match> matches, List<RoundQuality> rounds) {
+        DataQualityValidator validator = new DataQualityValidator();
+        int flagged = 0;
+        for (RoundQuality round : rounds) {
+            System.err.println(round.summary());
+            for (String sample : round.samples()) {
+                System.err.println("    " + sample);
+            }
+            flagged += round.flaggedRows();
+        }
+
+        // An untimed round of the same size first, so the figure is not dominated by warm-up.
+        int passes = Math.max(1, 200_000 / Math.max(1, matches.size()));
+        for (int i = 0; i < passes; i++) {
+            validator.validate("all", matches);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < passes; i++) {
+            validator.validate("all", matches);
+        }
+        long elapsed = System.nanoTime() - start;
+        long rows = (long) matches.size() * passes;
+        System.err.printf("%d of %d rows flagged across %d rounds; validated %d rows in %.1f ms "
+                + "(%.1f ns/row, %.0f rows/s)%n", flagged, matches.size(), rounds.size(), rows, elapsed / 1_000_000.0,
+                rows == 0 ? 0 : (double) elapsed / rows, elapsed == 0 ? 0 : rows * 1_000_000_000.0 / elapsed);
+    }
+
+    private static void reportUnknownInputs() {
+        if (!MatchType.unknownInputs().isEmpty())
+            System.err.println("Unrecognized match types: " + MatchType.unknownInputs());
+        if (!Result.unknownInputs().isEmpty())
+            System.err.println("Unrecognized results: " + Result.unknownInputs());
+    }
+
+    private void runJoin(List<Match> matches) throws IOException {
+        List<Match> ordered = new ArrayList<>(matches);
+        ordered.sort(MatchService.ROUND_ORDER);
+        Path source = Path.of(System.getProperty(PROPERTY_JOIN_SOURCE, CrawlerConstants.DIR_DATA_CRAWLED_FLASHSCORE));
+        FlashscoreCsvLoader.Load load = new FlashscoreCsvLoader().load(source);
+        System.err.printf("Read %d flashscore fixtures from %d of %d files (%d rows skipped)%n",
+                load.matches().size(), load.matchFiles(), load.files(), load.skippedRows());
+
+        JoinReport report = new MatchJoiner().join(MatchTable.from(ordered), load.matches(),
+                Integer.getInteger(PROPERTY_JOIN_TOLERANCE, 120));
+        System.err.println(report.summary());
+        for (MatchJoinMiss miss : report.ambiguous().subList(0, Math.min(JOIN_LISTED, report.ambiguous().size()))) {
+            System.out.println("AMBIGUOUS " + miss);
+        }
+        for (MatchJoinMiss miss : report.unmatched().subList(0, Math.min(JOIN_LISTED, report.unmatched().size()))) {
+            System.out.println("UNMATCHED " + miss);
+        }
+    }
+
+    private void runBacktest(List<Match> matches) {
+        List<Match> ordered = new ArrayList<>(matches);
+        ordered.sort(MatchService.ROUND_ORDER);
+        MatchTable table = MatchTable.from(ordered);
+        BacktestEngine engine = new BacktestEngine(table);
+
+        Set<String> leagues = new TreeSet<>();
+        for (Match match : ordered) {
+            if (match.getLeague() != null)
+                leagues.add(match.getLeague());
+        }
+        List<Strategy> strategies = Strategies.grid(new ArrayList<>(leagues));
+
+        long start = System.nanoTime();
+        List<BacktestResult> results = engine.runAll(strategies);
+        long elapsed = System.nanoTime() - start;
+
+        results.sort(Comparator.comparingDouble(BacktestResult::roi).reversed());
+        for (BacktestResult result : results.subList(0, Math.min(BACKTEST_TOP, results.size()))) {
+            if (result.bets() > 0)
+                System.out.println(result.summary());
+        }
+        System.err.printf("Backtested %d strategies over %d rounds (%d rows) in %.1f ms (%.0f strategies/s)%n",
+                strategies.size(), engine.rounds(), table.size(), elapsed / 1_000_000.0,
+                strategies.size() / (elapsed / 1_000_000_000.0));
+    }
+
+    private void runMonteCarlo(List<Match> matches) {
+        List<Match> ordered = new ArrayList<>(matches);
+        ordered.sort(MatchService.ROUND_ORDER);
+        BacktestEngine engine = new BacktestEngine(MatchTable.from(ordered));
+        MonteCarloSimulator simulator = new MonteCarloSimulator();
+        int paths = Integer.getInteger(PROPERTY_MC_PATHS, 100_000);
+        long seed = Long.getLong(PROPERTY_MC_SEED, 42L);
+
+        for (PickRule pick : PickRule.values()) {
+            StrategyBets bets = engine.betsFor(Strategy.of(pick.name() + " ALL", pick));
+            for (MonteCarloSimulator.Mode mode : MonteCarloSimulator.Mode.values()) {
+                System.out.println(simulator.simulate(bets, mode, paths, seed).summary());
+            }
+        }
+    }
+
+    // Rows go from the CSV reader straight to stdout, so nothing is collected in between.
+    private void streamNdjson(String path) throws IOException {
+        try (MatchJsonStream stream = view.openStream(true)) {
+            matchService.streamMatches(path, match -> {
+                try {
+                    stream.write(match);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 }
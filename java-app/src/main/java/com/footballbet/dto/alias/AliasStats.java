@@ -0,0 +1,19 @@
+package com.footballbet.dto.alias;
+
+// Lookups are counted per call; resolved and unresolved count distinct raw spellings that missed the cache.
+public record AliasStats(
+        String kind,
+        int entries,
+        long lookups,
+        long cacheHits,
+        double hitRate,
+        int cachedNames,
+        long resolvedNames,
+        long unresolvedNames,
+        double averageMissMicros) {
+
+    public String summary() {
+        return String.format("%s: %d aliases, %d lookups, %.1f%% cache hits, %d resolved / %d unresolved names, %.2f us per miss",
+                kind, entries, lookups, hitRate * 100, resolvedNames, unresolvedNames, averageMissMicros);
+    }
+}
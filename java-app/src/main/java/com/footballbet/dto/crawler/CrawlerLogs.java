@@ -0,0 +1,6 @@
+package com.footballbet.dto.crawler;
+
+import java.util.List;
+
+public record CrawlerLogs(long lastSeq, boolean truncated, List<LogEntry> lines) {
+}
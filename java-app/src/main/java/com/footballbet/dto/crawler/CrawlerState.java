@@ -1,39 +1,30 @@
 package com.footballbet.dto.crawler;
 
 import com.footballbet.domain.crawler.CrawlerStatus;
+import java.util.Objects;
 
-public class CrawlerState {
-    private CrawlerStatus status;
-    private int progress;
-    private String lastLog;
+public record CrawlerState(CrawlerStatus status, int progress, String lastLog, long version) {
 
     public CrawlerState(CrawlerStatus status, int progress, String lastLog) {
-        this.status = status;
-        this.progress = progress;
-        this.lastLog = lastLog;
+        this(status, progress, lastLog, 0);
     }
 
-    public CrawlerStatus getStatus() {
-        return status;
+    public CrawlerState withStatus(CrawlerStatus status) {
+        return with(status, progress, lastLog);
     }
 
-    public void setStatus(CrawlerStatus status) {
-        this.status = status;
+    public CrawlerState withProgress(int progress) {
+        return with(status, progress, lastLog);
     }
 
-    public int getProgress() {
-        return progress;
+    public CrawlerState withLastLog(String lastLog) {
+        return with(status, progress, lastLog);
     }
 
-    public void setProgress(int progress) {
-        this.progress = progress;
-    }
-
-    public String getLastLog() {
-        return lastLog;
-    }
-
-    public void setLastLog(String lastLog) {
-        this.lastLog = lastLog;
+    public CrawlerState with(CrawlerStatus status, int progress, String lastLog) {
+        if (this.status == status && this.progress == progress && Objects.equals(this.lastLog, lastLog)) {
+            return this;
+        }
+        return new CrawlerState(status, progress, lastLog, version + 1);
     }
 }
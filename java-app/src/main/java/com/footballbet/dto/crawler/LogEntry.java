@@ -0,0 +1,4 @@
+package com.footballbet.dto.crawler;
+
+public record LogEntry(long seq, String line) {
+}
@@ -0,0 +1,22 @@
+package com.footballbet.dto.join;
+
+import java.util.List;
+
+public record JoinReport(
+        int betinfoRows,
+        int flashscoreRecords,
+        int toleranceMinutes,
+        List<MatchJoin> matched,
+        List<MatchJoinMiss> unmatched,
+        List<MatchJoinMiss> ambiguous,
+        int unmatchedFlashscore,
+        long scoreConflicts,
+        long elapsedMillis) {
+
+    public String summary() {
+        return String.format("Joined %d betinfo rows with %d flashscore fixtures (+/-%d min) in %d ms: "
+                + "%d matched, %d unmatched, %d ambiguous, %d flashscore fixtures unused, %d score conflicts",
+                betinfoRows, flashscoreRecords, toleranceMinutes, elapsedMillis, matched.size(), unmatched.size(),
+                ambiguous.size(), unmatchedFlashscore, scoreConflicts);
+    }
+}
@@ -0,0 +1,8 @@
+package com.footballbet.dto.join;
+
+import java.time.LocalDateTime;
+
+// scoreAgrees is null when either side has no score yet.
+public record MatchJoin(int round, int matchNo, String home, String away, LocalDateTime kickoff,
+        String flashscoreId, LocalDateTime flashscoreKickoff, long offsetMinutes, Boolean scoreAgrees) {
+}
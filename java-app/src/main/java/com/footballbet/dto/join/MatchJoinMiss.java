@@ -0,0 +1,8 @@
+package com.footballbet.dto.join;
+
+import java.time.LocalDateTime;
+
+// candidates is 0 for an unmatched row and the number of flashscore fixtures in the window for an ambiguous one.
+public record MatchJoinMiss(int round, int matchNo, String home, String away, LocalDateTime kickoff,
+        int candidates) {
+}
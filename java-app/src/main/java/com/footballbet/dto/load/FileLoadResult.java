@@ -0,0 +1,36 @@
+package com.footballbet.dto.load;
+
+import com.footballbet.dto.quality.RoundQuality;
+import java.util.List;
+
+public record FileLoadResult(String fileName, int rows, long elapsedMillis, boolean cached, String error,
+        List<RoundQuality> quality) {
+
+    public static FileLoadResult success(String fileName, int rows, long elapsedMillis) {
+        return new FileLoadResult(fileName, rows, elapsedMillis, false, null, List.of());
+    }
+
+    public static FileLoadResult cached(String fileName, int rows, long elapsedMillis) {
+        return new FileLoadResult(fileName, rows, elapsedMillis, true, null, List.of());
+    }
+
+    public static FileLoadResult failure(String fileName, long elapsedMillis, String error) {
+        return new FileLoadResult(fileName, 0, elapsedMillis, false, error, List.of());
+    }
+
+    public FileLoadResult withQuality(List<RoundQuality> quality) {
+        return new FileLoadResult(fileName, rows, elapsedMillis, cached, error, List.copyOf(quality));
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    public int flaggedRows() {
+        int flagged = 0;
+        for (RoundQuality round : quality) {
+            flagged += round.flaggedRows();
+        }
+        return flagged;
+    }
+}
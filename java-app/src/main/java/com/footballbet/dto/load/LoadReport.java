@@ -0,0 +1,56 @@
+package com.footballbet.dto.load;
+
+import com.footballbet.dto.quality.RoundQuality;
+import com.footballbet.model.Match;
+import java.util.ArrayList;
+import java.util.List;
+
+public record LoadReport(List<Match> matches, List<FileLoadResult> files, long elapsedMillis) {
+
+    public long failedFiles() {
+        return files.stream().filter(FileLoadResult::isFailed).count();
+    }
+
+    public long cachedFiles() {
+        return files.stream().filter(FileLoadResult::cached).count();
+    }
+
+    public List<RoundQuality> quality() {
+        List<RoundQuality> rounds = new ArrayList<>();
+        for (FileLoadResult file : files) {
+            rounds.addAll(file.quality());
+        }
+        return rounds;
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        for (FileLoadResult file : files) {
+            sb.append(file.fileName())
+                    .append(": ")
+                    .append(file.isFailed() ? "FAILED (" + file.error() + ")" : file.rows() + " rows")
+                    .append(file.cached() ? " (snapshot)" : "")
+                    .append(file.flaggedRows() > 0 ? ", " + file.flaggedRows() + " flagged" : "")
+                    .append(", ")
+                    .append(file.elapsedMillis())
+                    .append(" ms")
+                    .append(System.lineSeparator());
+        }
+        for (RoundQuality round : quality()) {
+            if (!round.isClean())
+                sb.append("  ").append(round.summary()).append(System.lineSeparator());
+        }
+        sb.append("Loaded ")
+                .append(matches.size())
+                .append(" matches from ")
+                .append(files.size())
+                .append(" files (")
+                .append(failedFiles())
+                .append(" failed, ")
+                .append(cachedFiles())
+                .append(" from snapshot) in ")
+                .append(elapsedMillis)
+                .append(" ms");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package com.footballbet.dto.match;
+
+public enum MatchField {
+    ROUND("round"),
+    MATCH_NO("matchNo"),
+    DATE_TIME("dateTime"),
+    LEAGUE("league"),
+    HOME("home"),
+    AWAY("away"),
+    TYPE("type"),
+    WIN_ODD("winOdd"),
+    DRAW_ODD("drawOdd"),
+    LOSE_ODD("loseOdd"),
+    SCORE("score"),
+    RESULT("result"),
+    RESULT_ODD("resultOdd");
+
+    public static final int ALL = (1 << values().length) - 1;
+
+    private final String jsonName;
+
+    MatchField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static MatchField from(String text) {
+        for (MatchField field : values()) {
+            if (field.jsonName.equalsIgnoreCase(text) || field.name().equalsIgnoreCase(text)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + text);
+    }
+
+    public static int mask(String fields) {
+        if (fields == null || fields.isBlank())
+            return ALL;
+        int mask = 0;
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                mask |= from(name.trim()).bit();
+            }
+        }
+        return mask == 0 ? ALL : mask;
+    }
+}
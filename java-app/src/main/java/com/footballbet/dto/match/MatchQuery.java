@@ -0,0 +1,117 @@
+package com.footballbet.dto.match;
+
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import java.util.Map;
+
+public record MatchQuery(
+        int roundFrom,
+        int roundTo,
+        String league,
+        String team,
+        MatchType type,
+        Result result,
+        OddSide oddSide,
+        double minOdd,
+        double maxOdd,
+        Long cursor,
+        int limit,
+        int fieldMask) {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    public enum OddSide {
+        WIN, DRAW, LOSE, RESULT
+    }
+
+    public static MatchQuery from(Map<String, String> params) {
+        int roundFrom = intParam(params, "roundFrom", Integer.MIN_VALUE);
+        int roundTo = intParam(params, "roundTo", Integer.MAX_VALUE);
+        if (params.containsKey("round")) {
+            roundFrom = roundTo = intParam(params, "round", 0);
+        }
+
+        MatchType type = null;
+        if (params.containsKey("type")) {
+            type = MatchType.find(params.get("type"));
+            if (type == null) {
+                throw new IllegalArgumentException("Invalid type parameter");
+            }
+        }
+        Result result = null;
+        if (params.containsKey("result")) {
+            result = Result.find(params.get("result"));
+            if (result == null) {
+                throw new IllegalArgumentException("Invalid result parameter");
+            }
+        }
+
+        OddSide oddSide = OddSide.WIN;
+        if (params.containsKey("odds")) {
+            try {
+                oddSide = OddSide.valueOf(params.get("odds").toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid odds parameter");
+            }
+        }
+
+        Long cursor = params.containsKey("cursor") ? longParam(params, "cursor") : null;
+        int limit = intParam(params, "limit", DEFAULT_LIMIT);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        return new MatchQuery(
+                roundFrom,
+                roundTo,
+                blankToNull(params.get("league")),
+                blankToNull(params.get("team")),
+                type,
+                result,
+                oddSide,
+                doubleParam(params, "minOdd", Double.NEGATIVE_INFINITY),
+                doubleParam(params, "maxOdd", Double.POSITIVE_INFINITY),
+                cursor,
+                limit,
+                MatchField.mask(params.get("fields")));
+    }
+
+    public boolean hasOddRange() {
+        return minOdd != Double.NEGATIVE_INFINITY || maxOdd != Double.POSITIVE_INFINITY;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static int intParam(Map<String, String> params, String name, int defaultValue) {
+        String value = params.get(name);
+        if (value == null)
+            return defaultValue;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + " parameter");
+        }
+    }
+
+    private static long longParam(Map<String, String> params, String name) {
+        try {
+            return Long.parseLong(params.get(name).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + " parameter");
+        }
+    }
+
+    private static double doubleParam(Map<String, String> params, String name, double defaultValue) {
+        String value = params.get(name);
+        if (value == null)
+            return defaultValue;
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + " parameter");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.footballbet.dto.odds;
+
+// Which odd of a match decides its bucket.
+public enum OddsBasis {
+    WIN,
+    DRAW,
+    LOSE,
+    FAVORITE;
+
+    public static OddsBasis from(String text) {
+        for (OddsBasis basis : values()) {
+            if (basis.name().equalsIgnoreCase(text)) {
+                return basis;
+            }
+        }
+        throw new IllegalArgumentException("Unknown odds basis: " + text);
+    }
+}
@@ -0,0 +1,10 @@
+package com.footballbet.dto.odds;
+
+// Rolled-up dimensions are null. oddSum adds the bucketing odd; resultOddSum adds resultOdd where present.
+public record OddsCubeCell(Double bucketFrom, Double bucketTo, String type, String league, String outcome, int count,
+        double oddSum, double resultOddSum) {
+
+    public double averageOdd() {
+        return count == 0 ? 0 : oddSum / count;
+    }
+}
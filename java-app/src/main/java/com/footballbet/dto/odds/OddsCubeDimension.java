@@ -0,0 +1,17 @@
+package com.footballbet.dto.odds;
+
+public enum OddsCubeDimension {
+    BUCKET,
+    TYPE,
+    LEAGUE,
+    OUTCOME;
+
+    public static OddsCubeDimension from(String text) {
+        for (OddsCubeDimension dimension : values()) {
+            if (dimension.name().equalsIgnoreCase(text)) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("Unknown dimension: " + text);
+    }
+}
@@ -0,0 +1,22 @@
+package com.footballbet.dto.odds;
+
+import com.footballbet.model.MatchType;
+import java.util.Set;
+
+// Null or empty filters select everything. Dimensions not listed in groupBy are rolled up.
+// The outcome PENDING stands for matches without a result yet.
+public record OddsCubeQuery(
+        Set<MatchType> types,
+        Set<String> leagues,
+        Set<String> outcomes,
+        double minOdd,
+        double maxOdd,
+        Set<OddsCubeDimension> groupBy) {
+
+    public OddsCubeQuery {
+        types = types == null ? Set.of() : Set.copyOf(types);
+        leagues = leagues == null ? Set.of() : Set.copyOf(leagues);
+        outcomes = outcomes == null ? Set.of() : Set.copyOf(outcomes);
+        groupBy = groupBy == null ? Set.of() : Set.copyOf(groupBy);
+    }
+}
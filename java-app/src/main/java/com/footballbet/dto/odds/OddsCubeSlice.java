@@ -0,0 +1,7 @@
+package com.footballbet.dto.odds;
+
+import java.util.List;
+
+public record OddsCubeSlice(long version, double bucketWidth, OddsBasis basis, int total, List<OddsCubeCell> cells,
+        long elapsedMicros) {
+}
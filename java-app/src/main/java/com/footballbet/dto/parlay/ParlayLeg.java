@@ -0,0 +1,7 @@
+package com.footballbet.dto.parlay;
+
+import com.footballbet.model.Result;
+
+public record ParlayLeg(int round, int matchNo, String home, String away, Result pick, double odd,
+        double probability) {
+}
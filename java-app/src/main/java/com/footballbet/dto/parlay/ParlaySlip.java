@@ -0,0 +1,7 @@
+package com.footballbet.dto.parlay;
+
+import java.util.List;
+
+// expectedValue is the expected profit per unit stake: totalOdds * hitProbability - 1.
+public record ParlaySlip(List<ParlayLeg> legs, double totalOdds, double hitProbability, double expectedValue) {
+}
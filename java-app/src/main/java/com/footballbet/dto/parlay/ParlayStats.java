@@ -0,0 +1,4 @@
+package com.footballbet.dto.parlay;
+
+public record ParlayStats(int candidates, long visited, long pruned, int results, long elapsedMillis) {
+}
@@ -0,0 +1,22 @@
+package com.footballbet.dto.quality;
+
+public enum QualityIssue {
+    DUPLICATE_MATCH("duplicate (round, matchNo)"),
+    MISSING_DATE_TIME("kickoff missing or unparseable"),
+    UNKNOWN_TYPE("match type not recognized"),
+    MISSING_ODDS("odds missing"),
+    ODDS_OUT_OF_RANGE("odd below 1.0"),
+    MARGIN_OUT_OF_BOUNDS("implied margin outside bounds"),
+    SCORE_RESULT_MISMATCH("score disagrees with result"),
+    RESULT_ODD_MISMATCH("result odd is not the winning odd");
+
+    private final String description;
+
+    QualityIssue(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
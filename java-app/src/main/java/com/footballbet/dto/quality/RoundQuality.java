@@ -0,0 +1,23 @@
+package com.footballbet.dto.quality;
+
+import java.util.List;
+import java.util.Map;
+
+// Issue counts for one round of one file; samples name the first few offending rows.
+public record RoundQuality(int round, String source, int rows, int flaggedRows, Map<QualityIssue, Integer> issues,
+        List<String> samples) {
+
+    public boolean isClean() {
+        return issues.isEmpty();
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("round ").append(round).append(" (").append(source).append("): ")
+                .append(flaggedRows).append('/').append(rows).append(" rows flagged");
+        for (Map.Entry<QualityIssue, Integer> issue : issues.entrySet()) {
+            sb.append(", ").append(issue.getKey().getDescription()).append(' ').append(issue.getValue());
+        }
+        return sb.toString();
+    }
+}
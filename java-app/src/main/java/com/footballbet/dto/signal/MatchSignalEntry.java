@@ -0,0 +1,7 @@
+package com.footballbet.dto.signal;
+
+// With a two-sided favourite the favourite losing and the underdog winning are one event, so a single
+// upset flag covers both; the team-level split lives in SignalAggregate.
+public record MatchSignalEntry(int round, int matchNo, String home, String away, String favorite, double favoriteOdd,
+        String signal, boolean upset) {
+}
@@ -0,0 +1,28 @@
+package com.footballbet.dto.signal;
+
+// League and odds-band aggregates count every settled match with a favourite. Team aggregates count the
+// team's matches; there upsets are the team's collapses as favourite and underdogWins its wins as underdog.
+// The rolling fields cover the latest rollingMatches of those matches in (round, matchNo) order.
+public record SignalAggregate(
+        String key,
+        int matches,
+        int favoriteWins,
+        int draws,
+        int upsets,
+        int underdogWins,
+        int rollingMatches,
+        int rollingUpsets,
+        int rollingUnderdogWins) {
+
+    public double upsetRate() {
+        return matches == 0 ? 0 : (double) upsets / matches;
+    }
+
+    public double underdogWinRate() {
+        return matches == 0 ? 0 : (double) underdogWins / matches;
+    }
+
+    public double rollingUpsetRate() {
+        return rollingMatches == 0 ? 0 : (double) rollingUpsets / rollingMatches;
+    }
+}
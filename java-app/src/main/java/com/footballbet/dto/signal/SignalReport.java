@@ -0,0 +1,12 @@
+package com.footballbet.dto.signal;
+
+import java.util.List;
+
+public record SignalReport(
+        long version,
+        int rollingWindow,
+        SignalAggregate overall,
+        List<SignalAggregate> leagues,
+        List<SignalAggregate> teams,
+        List<SignalAggregate> oddsBands) {
+}
@@ -0,0 +1,33 @@
+package com.footballbet.dto.simulation;
+
+public record BacktestResult(
+        String strategy,
+        int bets,
+        int hits,
+        double staked,
+        double returned,
+        double startBankroll,
+        double endBankroll,
+        double maxDrawdown,
+        double maxDrawdownRatio,
+        int[] curveRounds,
+        double[] curveBankroll) {
+
+    public double profit() {
+        return returned - staked;
+    }
+
+    public double hitRate() {
+        return bets == 0 ? 0 : (double) hits / bets;
+    }
+
+    public double roi() {
+        return staked == 0 ? 0 : profit() / staked;
+    }
+
+    public String summary() {
+        return String.format("%-40s bets=%4d hit=%5.1f%% roi=%+6.1f%% profit=%+8.2f maxDD=%7.2f (%4.1f%%) bankroll=%.2f",
+                strategy, bets, hitRate() * 100, roi() * 100, profit(), maxDrawdown, maxDrawdownRatio * 100,
+                endBankroll);
+    }
+}
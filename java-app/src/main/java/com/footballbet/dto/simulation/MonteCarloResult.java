@@ -0,0 +1,41 @@
+package com.footballbet.dto.simulation;
+
+// curves[p][s] is the bankroll at percentiles[p] after step s.
+public record MonteCarloResult(
+        String strategy,
+        String mode,
+        int paths,
+        long seed,
+        double startBankroll,
+        double[] percentiles,
+        double[][] curves,
+        double meanFinal,
+        double riskOfRuin,
+        double probabilityOfProfit,
+        long elapsedMillis) {
+
+    public int steps() {
+        return curves.length == 0 ? 0 : curves[0].length;
+    }
+
+    public double finalPercentile(int p) {
+        int steps = steps();
+        return steps == 0 ? startBankroll : curves[p][steps - 1];
+    }
+
+    public double pathsPerSecond() {
+        return elapsedMillis == 0 ? 0 : paths * 1000.0 / elapsedMillis;
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%s [%s] %,d paths x %d steps, seed %d: mean=%.2f ruin=%.2f%% profit=%.1f%%",
+                strategy, mode, paths, steps(), seed, meanFinal, riskOfRuin * 100, probabilityOfProfit * 100));
+        sb.append(System.lineSeparator()).append("  final bankroll");
+        for (int p = 0; p < percentiles.length; p++) {
+            sb.append(String.format(" p%.0f=%.2f", percentiles[p] * 100, finalPercentile(p)));
+        }
+        sb.append(String.format(" (%d ms, %,.0f paths/s)", elapsedMillis, pathsPerSecond()));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.footballbet.dto.team;
+
+import java.util.List;
+
+// Counts are per fixture, so the general, handicap and under/over rows of one game count once.
+// form and goalDifferences cover the latest settled fixtures, oldest first; averageOdd is the team's own
+// odd on general rows and null when none were priced.
+public record TeamForm(
+        String team,
+        int matches,
+        int played,
+        int wins,
+        int draws,
+        int losses,
+        String form,
+        int formPoints,
+        List<Integer> goalDifferences,
+        String streak,
+        int streakLength,
+        int longestWinStreak,
+        int longestUnbeatenStreak,
+        Double averageOdd) {
+}
@@ -0,0 +1,98 @@
+package com.footballbet.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Immutable text -> constant table for the CSV enums. The spellings seen in practice (descriptions, names in
+// upper and lower case, and their full-width forms) hit the table as written; other case mixes and stray
+// whitespace go through one normalization. Unrecognized input is counted by spelling so it can be reported.
+final class EnumLookup<E extends Enum<E>> {
+    private static final int MAX_TRACKED_UNKNOWNS = 256;
+    private static final String OTHER_UNKNOWNS = "(other)";
+
+    private final Map<String, E> table;
+    private final ConcurrentHashMap<String, LongAdder> unknownInputs;
+    private final LongAdder untrackedUnknowns;
+
+    EnumLookup(E[] values, Function<E, String> description) {
+        Map<String, E> table = new HashMap<>();
+        for (E value : values) {
+            for (String key : new String[] { description.apply(value), value.name() }) {
+                table.putIfAbsent(key, value);
+                table.putIfAbsent(normalize(key), value);
+                table.putIfAbsent(key.toLowerCase(), value);
+                table.putIfAbsent(toFullWidth(key), value);
+                table.putIfAbsent(toFullWidth(key.toLowerCase()), value);
+            }
+        }
+        this.table = Map.copyOf(table);
+        this.unknownInputs = new ConcurrentHashMap<>();
+        this.untrackedUnknowns = new LongAdder();
+    }
+
+    // Null for blank or unrecognized input, without counting it.
+    E find(String text) {
+        if (text == null)
+            return null;
+        E value = table.get(text);
+        return value != null ? value : table.get(normalize(text));
+    }
+
+    // A missing or blank cell is an absent value, not an unknown spelling, and is not counted.
+    E from(String text, E fallback) {
+        E value = find(text);
+        if (value != null)
+            return value;
+        if (text != null && !text.isBlank())
+            recordUnknown(text);
+        return fallback;
+    }
+
+    Map<String, Long> unknownInputs() {
+        Map<String, Long> counts = new TreeMap<>();
+        unknownInputs.forEach((text, count) -> counts.put(text, count.sum()));
+        long untracked = untrackedUnknowns.sum();
+        if (untracked > 0)
+            counts.put(OTHER_UNKNOWNS, untracked);
+        return counts;
+    }
+
+    private void recordUnknown(String text) {
+        LongAdder count = unknownInputs.get(text);
+        if (count == null) {
+            if (unknownInputs.size() >= MAX_TRACKED_UNKNOWNS) {
+                untrackedUnknowns.increment();
+                return;
+            }
+            count = unknownInputs.computeIfAbsent(text, key -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    // Full-width ASCII (U+FF01..U+FF5E) and the ideographic space fold to ASCII; names compare upper-cased.
+    static String normalize(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '\uFF01' && c <= '\uFF5E')
+                c = (char) (c - '\uFF01' + '!');
+            else if (c == '\u3000')
+                c = ' ';
+            out.append(Character.toUpperCase(c));
+        }
+        return out.toString().strip();
+    }
+
+    private static String toFullWidth(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            out.append(c >= '!' && c <= '~' ? (char) (c - '!' + '\uFF01') : c);
+        }
+        return out.toString();
+    }
+}
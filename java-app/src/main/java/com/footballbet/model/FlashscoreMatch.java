@@ -0,0 +1,8 @@
+package com.footballbet.model;
+
+import java.time.LocalDateTime;
+
+// One fixture as crawled from flashscore, with team and league names already canonicalized.
+public record FlashscoreMatch(String id, LocalDateTime kickoff, String league, String home, String away,
+        Score score) {
+}
@@ -1,45 +1,46 @@
 package com.footballbet.model;
 
+import com.footballbet.common.CsvColumns;
 import com.opencsv.bean.CsvBindByName;
 // Lombok removed
 
 public class MatchDto {
-    @CsvBindByName(column = "회차")
+    @CsvBindByName(column = CsvColumns.ROUND)
     public String round;
 
-    @CsvBindByName(column = "경기번호")
+    @CsvBindByName(column = CsvColumns.MATCH_NO)
     public String matchNo;
 
-    @CsvBindByName(column = "날짜 및 시간")
+    @CsvBindByName(column = CsvColumns.DATE_TIME)
     public String dateTime;
 
-    @CsvBindByName(column = "리그명")
+    @CsvBindByName(column = CsvColumns.LEAGUE)
     public String league;
 
-    @CsvBindByName(column = "홈")
+    @CsvBindByName(column = CsvColumns.HOME)
     public String home;
 
-    @CsvBindByName(column = "원정")
+    @CsvBindByName(column = CsvColumns.AWAY)
     public String away;
 
-    @CsvBindByName(column = "유형")
+    @CsvBindByName(column = CsvColumns.TYPE)
     public String type;
 
-    @CsvBindByName(column = "승(국내)")
+    @CsvBindByName(column = CsvColumns.WIN_ODD)
     public String winOdd;
 
-    @CsvBindByName(column = "무(국내)")
+    @CsvBindByName(column = CsvColumns.DRAW_ODD)
     public String drawOdd;
 
-    @CsvBindByName(column = "패(국내)")
+    @CsvBindByName(column = CsvColumns.LOSE_ODD)
     public String loseOdd;
 
-    @CsvBindByName(column = "스코어")
+    @CsvBindByName(column = CsvColumns.SCORE)
     public String score;
 
-    @CsvBindByName(column = "경기 결과")
+    @CsvBindByName(column = CsvColumns.RESULT)
     public String result;
 
-    @CsvBindByName(column = "결과 배당")
+    @CsvBindByName(column = CsvColumns.RESULT_ODD)
     public String resultOdd;
 }
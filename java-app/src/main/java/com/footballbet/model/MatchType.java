@@ -1,5 +1,7 @@
 package com.footballbet.model;
 
+import java.util.Map;
+
 public enum MatchType {
     GENERAL("일반"),
     HANDICAP("핸디캡"),
@@ -7,6 +9,8 @@ public enum MatchType {
     SUM("홀짝"),
     UNKNOWN("알수없음");
 
+    private static final EnumLookup<MatchType> LOOKUP = new EnumLookup<>(values(), MatchType::getDescription);
+
     private final String description;
 
     MatchType(String description) {
@@ -18,13 +22,15 @@ public enum MatchType {
     }
 
     public static MatchType from(String text) {
-        if (text == null)
-            return UNKNOWN;
-        for (MatchType type : values()) {
-            if (type.description.equals(text) || type.name().equalsIgnoreCase(text)) {
-                return type;
-            }
-        }
-        return UNKNOWN;
+        return LOOKUP.from(text, UNKNOWN);
+    }
+
+    // Null instead of UNKNOWN for text that names no type; not counted as an unknown input.
+    public static MatchType find(String text) {
+        return LOOKUP.find(text);
+    }
+
+    public static Map<String, Long> unknownInputs() {
+        return LOOKUP.unknownInputs();
     }
 }
@@ -1,5 +1,7 @@
 package com.footballbet.model;
 
+import java.util.Map;
+
 public enum Result {
     WIN("승"),
     DRAW("무"),
@@ -10,6 +12,8 @@ public enum Result {
     EVEN("짝"),
     UNKNOWN("알수없음");
 
+    private static final EnumLookup<Result> LOOKUP = new EnumLookup<>(values(), Result::getDescription);
+
     private final String description;
 
     Result(String description) {
@@ -20,21 +24,17 @@ public enum Result {
         return description;
     }
 
+    // Full-width Ｕ/Ｏ and names in any case resolve through the lookup table.
     public static Result from(String text) {
-        if (text == null)
-            return UNKNOWN;
-
-        // Handle full-width characters
-        if (text.equals("Ｕ"))
-            return UNDER;
-        if (text.equals("Ｏ"))
-            return OVER;
-
-        for (Result result : values()) {
-            if (result.description.equals(text) || result.name().equalsIgnoreCase(text)) {
-                return result;
-            }
-        }
-        return UNKNOWN;
+        return LOOKUP.from(text, UNKNOWN);
+    }
+
+    // Null instead of UNKNOWN for text that names no result; not counted as an unknown input.
+    public static Result find(String text) {
+        return LOOKUP.find(text);
+    }
+
+    public static Map<String, Long> unknownInputs() {
+        return LOOKUP.unknownInputs();
     }
 }
@@ -1,18 +1,67 @@
 package com.footballbet.model;
 
 public record Score(int home, int away) {
+    private static final int CACHED_GOALS = 16;
+    private static final Score[] CACHE = new Score[CACHED_GOALS * CACHED_GOALS];
+
+    static {
+        for (int home = 0; home < CACHED_GOALS; home++) {
+            for (int away = 0; away < CACHED_GOALS; away++) {
+                CACHE[home * CACHED_GOALS + away] = new Score(home, away);
+            }
+        }
+    }
+
+    // Everyday scores are shared instances; scores are immutable, so callers cannot tell.
+    public static Score of(int home, int away) {
+        if (home >= 0 && home < CACHED_GOALS && away >= 0 && away < CACHED_GOALS)
+            return CACHE[home * CACHED_GOALS + away];
+        return new Score(home, away);
+    }
+
     public static Score parse(String scoreStr) {
-        if (scoreStr == null || !scoreStr.contains(":")) {
+        Score score = tryParse(scoreStr);
+        if (score != null)
+            return score;
+        if (scoreStr == null || scoreStr.indexOf(':') < 0) {
             throw new IllegalArgumentException("Invalid score format: " + scoreStr);
         }
-        String[] parts = scoreStr.split(":");
-        try {
-            int home = Integer.parseInt(parts[0].trim());
-            int away = Integer.parseInt(parts[1].trim());
-            return new Score(home, away);
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Invalid score numbers: " + scoreStr);
+        throw new IllegalArgumentException("Invalid score numbers: " + scoreStr);
+    }
+
+    // "home:away" with optional spaces around either number; null instead of an exception when malformed.
+    public static Score tryParse(CharSequence text) {
+        if (text == null)
+            return null;
+        int colon = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == ':') {
+                colon = i;
+                break;
+            }
+        }
+        if (colon < 0)
+            return null;
+        int home = goals(text, 0, colon);
+        int away = goals(text, colon + 1, text.length());
+        return home < 0 || away < 0 ? null : of(home, away);
+    }
+
+    private static int goals(CharSequence text, int from, int to) {
+        while (from < to && Character.isWhitespace(text.charAt(from)))
+            from++;
+        while (to > from && Character.isWhitespace(text.charAt(to - 1)))
+            to--;
+        if (from == to || to - from > 3)
+            return -1;
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9')
+                return -1;
+            value = value * 10 + (c - '0');
         }
+        return value;
     }
 
     @Override
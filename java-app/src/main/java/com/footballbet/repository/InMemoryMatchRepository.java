@@ -0,0 +1,210 @@
+package com.footballbet.repository;
+
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.util.IntList;
+import com.footballbet.util.LongIntHashMap;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InMemoryMatchRepository implements MatchRepository {
+    private static final int NO_SLOT = -1;
+
+    private final List<Match> rows = new ArrayList<>();
+    private final LongIntHashMap keyIndex = new LongIntHashMap(1024, NO_SLOT);
+    private final Map<String, IntList> leagueIndex = new HashMap<>();
+    private final Map<String, IntList> teamIndex = new HashMap<>();
+    private final IntList[] typeIndex = new IntList[MatchType.values().length];
+    private final NavigableMap<LocalDateTime, IntList> dateIndex = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InMemoryMatchRepository() {
+        for (int i = 0; i < typeIndex.length; i++) {
+            typeIndex[i] = new IntList();
+        }
+    }
+
+    public static long key(int round, int matchNo) {
+        return ((long) round << 32) | (matchNo & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public List<Match> findAll() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(rows);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Match> findByRoundAndMatchNo(int round, int matchNo) {
+        lock.readLock().lock();
+        try {
+            int slot = keyIndex.get(key(round, matchNo));
+            return slot == NO_SLOT ? Optional.empty() : Optional.of(rows.get(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> findByLeague(String league) {
+        lock.readLock().lock();
+        try {
+            return collect(leagueIndex.get(league));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> findByTeam(String team) {
+        lock.readLock().lock();
+        try {
+            return collect(teamIndex.get(team));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> findByType(MatchType type) {
+        if (type == null)
+            return Collections.emptyList();
+        lock.readLock().lock();
+        try {
+            return collect(typeIndex[type.ordinal()]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> findByDateRange(LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            List<Match> matches = new ArrayList<>();
+            NavigableMap<LocalDateTime, IntList> range = dateIndex;
+            if (from != null)
+                range = range.tailMap(from, true);
+            if (to != null)
+                range = range.headMap(to, true);
+            for (IntList slots : range.values()) {
+                for (int i = 0; i < slots.size(); i++) {
+                    matches.add(rows.get(slots.get(i)));
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(List<Match> matches) {
+        lock.writeLock().lock();
+        try {
+            for (Match match : matches) {
+                save(match);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void save(Match match) {
+        long key = key(match.getRound(), match.getMatchNo());
+        int slot = keyIndex.get(key);
+        if (slot == NO_SLOT) {
+            slot = rows.size();
+            rows.add(match);
+            keyIndex.put(key, slot);
+            index(match, slot);
+            return;
+        }
+
+        Match previous = rows.set(slot, match);
+        if (!Objects.equals(previous.getLeague(), match.getLeague())) {
+            remove(leagueIndex, previous.getLeague(), slot);
+            add(leagueIndex, match.getLeague(), slot);
+        }
+        if (!Objects.equals(previous.getHome(), match.getHome())
+                || !Objects.equals(previous.getAway(), match.getAway())) {
+            removeTeams(previous, slot);
+            addTeams(match, slot);
+        }
+        if (previous.getType() != match.getType()) {
+            if (previous.getType() != null)
+                typeIndex[previous.getType().ordinal()].remove(slot);
+            if (match.getType() != null)
+                typeIndex[match.getType().ordinal()].add(slot);
+        }
+        if (!Objects.equals(previous.getDateTime(), match.getDateTime())) {
+            remove(dateIndex, previous.getDateTime(), slot);
+            add(dateIndex, match.getDateTime(), slot);
+        }
+    }
+
+    private void index(Match match, int slot) {
+        add(leagueIndex, match.getLeague(), slot);
+        addTeams(match, slot);
+        if (match.getType() != null)
+            typeIndex[match.getType().ordinal()].add(slot);
+        add(dateIndex, match.getDateTime(), slot);
+    }
+
+    private void addTeams(Match match, int slot) {
+        add(teamIndex, match.getHome(), slot);
+        if (!Objects.equals(match.getHome(), match.getAway()))
+            add(teamIndex, match.getAway(), slot);
+    }
+
+    private void removeTeams(Match match, int slot) {
+        remove(teamIndex, match.getHome(), slot);
+        remove(teamIndex, match.getAway(), slot);
+    }
+
+    private static <K> void add(Map<K, IntList> index, K key, int slot) {
+        if (key != null)
+            index.computeIfAbsent(key, k -> new IntList()).add(slot);
+    }
+
+    private static <K> void remove(Map<K, IntList> index, K key, int slot) {
+        if (key == null)
+            return;
+        IntList slots = index.get(key);
+        if (slots != null && slots.remove(slot) && slots.isEmpty())
+            index.remove(key);
+    }
+
+    private List<Match> collect(IntList slots) {
+        if (slots == null)
+            return Collections.emptyList();
+        List<Match> matches = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            matches.add(rows.get(slots.get(i)));
+        }
+        return matches;
+    }
+}
@@ -1,6 +1,8 @@
 package com.footballbet.repository;
 
 import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,5 +11,13 @@ public interface MatchRepository {
 
     Optional<Match> findByRoundAndMatchNo(int round, int matchNo);
 
+    List<Match> findByLeague(String league);
+
+    List<Match> findByTeam(String team);
+
+    List<Match> findByType(MatchType type);
+
+    List<Match> findByDateRange(LocalDateTime from, LocalDateTime to);
+
     void saveAll(List<Match> matches);
 }
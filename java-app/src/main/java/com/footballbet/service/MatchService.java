@@ -1,34 +1,167 @@
 package com.footballbet.service;
 
+import com.footballbet.common.CrawlerConstants;
+import com.footballbet.dto.load.FileLoadResult;
+import com.footballbet.dto.load.LoadReport;
 import com.footballbet.model.Match;
+import com.footballbet.service.quality.DataQualityValidator;
+import com.footballbet.store.RoundSnapshotCache;
 import com.footballbet.util.CsvLoader;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 public class MatchService {
+    public static final Comparator<Match> ROUND_ORDER = Comparator.comparingInt(Match::getRound)
+            .thenComparingInt(Match::getMatchNo);
+
     private final CsvLoader csvLoader;
+    private final DataQualityValidator validator;
 
     public MatchService() {
         this.csvLoader = new CsvLoader();
+        this.validator = new DataQualityValidator();
     }
 
-    public List<Match> loadMatches(String path) {
-        File fileOrDir = new File(path);
+    public LoadReport loadMatches(String path) {
+        long start = System.nanoTime();
         List<Match> allMatches = new ArrayList<>();
+        List<FileLoadResult> results = new ArrayList<>();
+        DataQualityValidator.Duplicates seen = new DataQualityValidator.Duplicates();
+        for (File csvFile : listRoundFiles(path)) {
+            long fileStart = System.nanoTime();
+            try {
+                List<Match> matches = csvLoader.load(csvFile.getAbsolutePath());
+                allMatches.addAll(matches);
+                results.add(FileLoadResult.success(csvFile.getName(), matches.size(), elapsedMillis(fileStart))
+                        .withQuality(validator.validate(csvFile.getName(), matches, seen)));
+            } catch (Exception e) {
+                results.add(failed(csvFile, fileStart, e).result());
+            }
+        }
+        return new LoadReport(allMatches, results, elapsedMillis(start));
+    }
+
+    // Hands rows to the consumer file by file without collecting them, for output that should stay flat in memory.
+    public int streamMatches(String path, Consumer<Match> consumer) throws IOException {
+        int count = 0;
+        for (File csvFile : listRoundFiles(path)) {
+            count += csvLoader.stream(csvFile.getAbsolutePath(), consumer);
+        }
+        return count;
+    }
+
+    public LoadReport loadMatchesParallel(String path) {
+        return loadMatchesParallel(path, Runtime.getRuntime().availableProcessors());
+    }
+
+    public LoadReport loadMatchesParallel(String path, int parallelism) {
+        long start = System.nanoTime();
+        List<File> files = listRoundFiles(path);
+        if (files.isEmpty()) {
+            return new LoadReport(Collections.emptyList(), Collections.emptyList(), 0);
+        }
 
-        if (fileOrDir.isDirectory()) {
-            File[] files = fileOrDir.listFiles(
-                    (dir, name) -> name.startsWith("betinfo_proto_round_") && name.toLowerCase().endsWith(".csv"));
-            if (files != null) {
-                for (File csvFile : files) {
-                    allMatches.addAll(csvLoader.load(csvFile.getAbsolutePath()));
-                }
+        List<FileLoad> loads = new ArrayList<>(files.size());
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, files.size())));
+        try {
+            List<Future<FileLoad>> futures = new ArrayList<>(files.size());
+            for (File file : files) {
+                futures.add(pool.submit(() -> loadFile(file)));
             }
-        } else {
-            allMatches.addAll(csvLoader.load(fileOrDir.getAbsolutePath()));
+            for (int i = 0; i < futures.size(); i++) {
+                loads.add(await(futures.get(i), files.get(i)));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int total = 0;
+        for (FileLoad load : loads) {
+            total += load.matches().size();
+        }
+        List<Match> allMatches = new ArrayList<>(total);
+        List<FileLoadResult> results = new ArrayList<>(loads.size());
+        DataQualityValidator.Duplicates seen = new DataQualityValidator.Duplicates();
+        for (FileLoad load : loads) {
+            allMatches.addAll(load.matches());
+            FileLoadResult result = load.result();
+            results.add(result.isFailed() ? result
+                    : result.withQuality(validator.report(result.fileName(), load.matches(), load.issues(), seen)));
+        }
+        allMatches.sort(ROUND_ORDER);
+
+        return new LoadReport(allMatches, results, elapsedMillis(start));
+    }
+
+    public LoadReport loadMatchesCached(String path) {
+        RoundSnapshotCache cache = new RoundSnapshotCache(RoundSnapshotCache.snapshotFileFor(new File(path)), csvLoader,
+                validator);
+        LoadReport report = cache.load(listRoundFiles(path));
+        report.matches().sort(ROUND_ORDER);
+        return report;
+    }
+
+    public List<File> listRoundFiles(String path) {
+        File fileOrDir = new File(path);
+        if (!fileOrDir.isDirectory()) {
+            return List.of(fileOrDir.getAbsoluteFile());
+        }
+
+        File[] files = fileOrDir.listFiles(
+                (dir, name) -> name.startsWith(CrawlerConstants.BETINFO_ROUND_FILE_PREFIX)
+                        && name.toLowerCase().endsWith(CrawlerConstants.CSV_EXTENSION));
+        if (files == null) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(files, Comparator.comparing(File::getName));
+        return Arrays.asList(files);
+    }
+
+    private FileLoad loadFile(File file) {
+        long start = System.nanoTime();
+        List<Match> matches = new ArrayList<>();
+        try {
+            csvLoader.stream(file.getAbsolutePath(), matches::add);
+            // Row checks run on the worker that parsed the file; duplicates are tallied across files afterwards.
+            return new FileLoad(matches, validator.check(matches),
+                    FileLoadResult.success(file.getName(), matches.size(), elapsedMillis(start)));
+        } catch (Exception e) {
+            return failed(file, start, e);
         }
+    }
+
+    private FileLoad await(Future<FileLoad> future, File file) {
+        long start = System.nanoTime();
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failed(file, start, e);
+        } catch (ExecutionException e) {
+            return failed(file, start, e.getCause());
+        }
+    }
+
+    private static FileLoad failed(File file, long start, Throwable cause) {
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        return new FileLoad(Collections.emptyList(), new int[0],
+                FileLoadResult.failure(file.getName(), elapsedMillis(start), message));
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
 
-        return allMatches;
+    private record FileLoad(List<Match> matches, int[] issues, FileLoadResult result) {
     }
 }
@@ -0,0 +1,62 @@
+package com.footballbet.service.alias;
+
+import java.util.Map;
+
+// Normalized alias -> canonical name, compiled into open-addressing arrays kept at most a quarter full,
+// so a lookup is one hash and almost always one probe. Immutable once built.
+final class AliasTable {
+    private final String[] keys;
+    private final String[] values;
+    private final int mask;
+    private final int shift;
+    private final int size;
+
+    private AliasTable(String[] keys, String[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.shift = shift(keys.length);
+        this.size = size;
+    }
+
+    static AliasTable compile(Map<String, String> aliases) {
+        int capacity = Integer.highestOneBit(Math.max(4, aliases.size() * 4) - 1) << 1;
+        String[] keys = new String[capacity];
+        String[] values = new String[capacity];
+        int mask = capacity - 1;
+        int shift = shift(capacity);
+        for (Map.Entry<String, String> entry : aliases.entrySet()) {
+            int slot = slot(entry.getKey(), shift);
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = entry.getKey();
+            values[slot] = entry.getValue();
+        }
+        return new AliasTable(keys, values, aliases.size());
+    }
+
+    String get(String key) {
+        int slot = slot(key, shift);
+        String candidate;
+        while ((candidate = keys[slot]) != null) {
+            if (candidate.equals(key))
+                return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Fibonacci hashing: the high bits of the product mix every bit of String.hashCode().
+    private static int slot(String key, int shift) {
+        return (key.hashCode() * 0x9E3779B9) >>> shift;
+    }
+
+    private static int shift(int capacity) {
+        return 32 - Integer.numberOfTrailingZeros(capacity);
+    }
+}
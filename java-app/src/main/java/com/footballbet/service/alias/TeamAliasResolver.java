@@ -0,0 +1,244 @@
+package com.footballbet.service.alias;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballbet.common.CrawlerConstants;
+import com.footballbet.dto.alias.AliasStats;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Maps the team and league spellings of betinfo and flashscore onto one canonical name per master id: the
+// Korean master name when there is one, the English name otherwise. Master names and the alias files are
+// compiled once into AliasTable; raw spellings already seen are answered from a bounded cache. Names with
+// no alias are kept as written, trimmed, but still shared so each spelling is held once.
+public class TeamAliasResolver {
+    public static final String TEAMS_FILE = "teams.csv";
+    public static final String LEAGUES_FILE = "leagues.csv";
+    public static final String TEAM_ALIASES_FILE = "team_aliases.json";
+    public static final String LEAGUE_ALIASES_FILE = "league_aliases.json";
+
+    private static final int MAX_CACHED = 65_536;
+
+    private final Names teams;
+    private final Names leagues;
+    private final long fingerprint;
+
+    private TeamAliasResolver(AliasTable teams, AliasTable leagues, long fingerprint) {
+        this.teams = new Names("teams", teams);
+        this.leagues = new Names("leagues", leagues);
+        this.fingerprint = fingerprint;
+    }
+
+    public static TeamAliasResolver getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    public static TeamAliasResolver empty() {
+        return new TeamAliasResolver(AliasTable.compile(Map.of()), AliasTable.compile(Map.of()), 0);
+    }
+
+    public static TeamAliasResolver load(Path masterDir, Path aliasDir) {
+        Map<String, String> teams = new LinkedHashMap<>();
+        Map<String, String> leagues = new LinkedHashMap<>();
+        Map<String, String> teamIds = readMaster(masterDir.resolve(TEAMS_FILE), teams);
+        Map<String, String> leagueIds = readMaster(masterDir.resolve(LEAGUES_FILE), leagues);
+        readAliases(aliasDir.resolve(TEAM_ALIASES_FILE), teamIds, teams);
+        readAliases(aliasDir.resolve(LEAGUE_ALIASES_FILE), leagueIds, leagues);
+        return new TeamAliasResolver(AliasTable.compile(teams), AliasTable.compile(leagues),
+                fingerprint(teams) * 31 + fingerprint(leagues));
+    }
+
+    public String team(String raw) {
+        return teams.resolve(raw);
+    }
+
+    public String league(String raw) {
+        return leagues.resolve(raw);
+    }
+
+    public List<AliasStats> stats() {
+        return List.of(teams.stats(), leagues.stats());
+    }
+
+    // Changes whenever any spelling maps to a different canonical name, so caches of resolved names can tell
+    // that they were built under other alias files.
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    static String normalize(String name) {
+        String folded = Normalizer.normalize(name, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return collapseWhitespace(folded);
+    }
+
+    private static String collapseWhitespace(String name) {
+        String trimmed = name.strip();
+        StringBuilder out = new StringBuilder(trimmed.length());
+        boolean space = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!space)
+                    out.append(' ');
+                space = true;
+            } else {
+                out.append(c);
+                space = false;
+            }
+        }
+        return trimmed.contentEquals(out) ? trimmed : out.toString();
+    }
+
+    // Returns master id -> canonical name and adds every master spelling to aliases.
+    private static Map<String, String> readMaster(Path file, Map<String, String> aliases) {
+        Map<String, String> canonical = new LinkedHashMap<>();
+        if (!Files.isRegularFile(file))
+            return canonical;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                CSVReader csv = new CSVReader(reader)) {
+            String[] header = csv.readNext();
+            if (header == null)
+                return canonical;
+            int id = column(header, "id");
+            int name = column(header, "name");
+            int nameKo = column(header, "nameKo");
+            String[] row;
+            while ((row = csv.readNext()) != null) {
+                String key = value(row, id);
+                if (key == null)
+                    continue;
+                String english = value(row, name);
+                String korean = value(row, nameKo);
+                String display = korean != null ? korean : english != null ? english : key;
+                canonical.put(key, display);
+                addAlias(aliases, key, display);
+                addAlias(aliases, english, display);
+                addAlias(aliases, korean, display);
+            }
+        } catch (IOException | CsvValidationException e) {
+            System.err.println("Master file " + file + " unreadable: " + e.getMessage());
+        }
+        return canonical;
+    }
+
+    private static void readAliases(Path file, Map<String, String> canonical, Map<String, String> aliases) {
+        if (!Files.isRegularFile(file))
+            return;
+        try {
+            JsonNode root = new ObjectMapper().readTree(file.toFile());
+            Iterator<Map.Entry<String, JsonNode>> entries = root.fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                String display = canonical.getOrDefault(entry.getKey(), entry.getKey());
+                for (JsonNode alias : entry.getValue().path("aliases")) {
+                    addAlias(aliases, alias.asText(), display);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Alias file " + file + " unreadable: " + e.getMessage());
+        }
+    }
+
+    private static long fingerprint(Map<String, String> aliases) {
+        long hash = aliases.size();
+        for (Map.Entry<String, String> alias : aliases.entrySet()) {
+            long x = ((long) alias.getKey().hashCode() << 32) ^ (alias.getValue().hashCode() & 0xFFFFFFFFL);
+            x *= 0x9E3779B97F4A7C15L;
+            hash += x ^ (x >>> 29);
+        }
+        return hash;
+    }
+
+    // Master spellings are added first and win over an alias file entry that disagrees.
+    private static void addAlias(Map<String, String> aliases, String alias, String display) {
+        if (alias != null && !alias.isBlank())
+            aliases.putIfAbsent(normalize(alias), display.intern());
+    }
+
+    private static int column(String[] header, String name) {
+        for (int i = 0; i < header.length; i++) {
+            if (header[i].replace("\uFEFF", "").trim().equals(name))
+                return i;
+        }
+        return -1;
+    }
+
+    private static String value(String[] row, int index) {
+        if (index < 0 || index >= row.length || row[index].isBlank())
+            return null;
+        return row[index].trim();
+    }
+
+    private static final class Names {
+        private final String kind;
+        private final AliasTable table;
+        private final ConcurrentHashMap<String, String> cache;
+        private final ConcurrentHashMap<String, String> unresolved;
+        private final LongAdder lookups;
+        private final LongAdder cacheHits;
+        private final LongAdder resolvedNames;
+        private final LongAdder missNanos;
+
+        Names(String kind, AliasTable table) {
+            this.kind = kind;
+            this.table = table;
+            this.cache = new ConcurrentHashMap<>();
+            this.unresolved = new ConcurrentHashMap<>();
+            this.lookups = new LongAdder();
+            this.cacheHits = new LongAdder();
+            this.resolvedNames = new LongAdder();
+            this.missNanos = new LongAdder();
+        }
+
+        String resolve(String raw) {
+            if (raw == null)
+                return null;
+            lookups.increment();
+            String cached = cache.get(raw);
+            if (cached != null) {
+                cacheHits.increment();
+                return cached;
+            }
+
+            long start = System.nanoTime();
+            String trimmed = collapseWhitespace(raw);
+            String canonical = trimmed.isEmpty() ? null : table.get(normalize(trimmed));
+            if (canonical != null) {
+                resolvedNames.increment();
+            } else {
+                canonical = unresolved.computeIfAbsent(trimmed, name -> name);
+            }
+            if (cache.size() < MAX_CACHED)
+                cache.putIfAbsent(raw, canonical);
+            missNanos.add(System.nanoTime() - start);
+            return canonical;
+        }
+
+        AliasStats stats() {
+            long total = lookups.sum();
+            long hits = cacheHits.sum();
+            long misses = total - hits;
+            return new AliasStats(kind, table.size(), total, hits, total == 0 ? 0 : (double) hits / total,
+                    cache.size(), resolvedNames.sum(), unresolved.size(),
+                    misses == 0 ? 0 : missNanos.sum() / 1_000.0 / misses);
+        }
+    }
+
+    private static final class DefaultHolder {
+        private static final TeamAliasResolver INSTANCE = load(Path.of(CrawlerConstants.DIR_DATA_MASTER),
+                Path.of(CrawlerConstants.DIR_DATA_ALIASES));
+    }
+}
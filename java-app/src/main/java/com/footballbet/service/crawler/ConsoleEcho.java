@@ -0,0 +1,64 @@
+package com.footballbet.service.crawler;
+
+import java.io.PrintStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Echoes crawler output on a background thread so the process readers never block on the console.
+public class ConsoleEcho {
+    public static final String PROPERTY_ENABLED = "crawler.echo";
+
+    private static final int QUEUE_CAPACITY = 4096;
+
+    private final boolean enabled;
+    private final BlockingQueue<Entry> queue;
+    private final AtomicLong dropped;
+
+    public ConsoleEcho() {
+        this(Boolean.parseBoolean(System.getProperty(PROPERTY_ENABLED, "true")));
+    }
+
+    public ConsoleEcho(boolean enabled) {
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        this.dropped = new AtomicLong();
+        if (enabled) {
+            Thread thread = new Thread(this::drain, "crawler-console-echo");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    public void out(String text) {
+        offer(System.out, text);
+    }
+
+    public void err(String text) {
+        offer(System.err, text);
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void offer(PrintStream stream, String text) {
+        if (enabled && !queue.offer(new Entry(stream, text))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                Entry entry = queue.take();
+                entry.stream().println(entry.text());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Entry(PrintStream stream, String text) {
+    }
+}
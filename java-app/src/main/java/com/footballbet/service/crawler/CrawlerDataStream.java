@@ -0,0 +1,147 @@
+package com.footballbet.service.crawler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballbet.model.Match;
+import com.footballbet.util.CsvLoader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// Turns DATA:{...} payloads (keyed by the betinfo CSV column names) into batched Match records.
+public class CrawlerDataStream {
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final long DEFAULT_FLUSH_INTERVAL_MS = 500;
+
+    private final ObjectMapper objectMapper;
+    private final CsvLoader csvLoader;
+    private final int batchSize;
+    private final List<Consumer<List<Match>>> listeners;
+    private final ScheduledExecutorService scheduler;
+    private List<Match> buffer;
+    private long rejected;
+
+    public CrawlerDataStream() {
+        this(DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MS);
+    }
+
+    public CrawlerDataStream(int batchSize, long flushIntervalMillis) {
+        this.objectMapper = new ObjectMapper();
+        this.csvLoader = new CsvLoader();
+        this.batchSize = batchSize;
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.buffer = new ArrayList<>(batchSize);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "crawler-data-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void addListener(Consumer<List<Match>> listener) {
+        listeners.add(listener);
+    }
+
+    public void accept(String payload) {
+        List<Match> parsed = parse(payload);
+        if (parsed.isEmpty()) {
+            return;
+        }
+        List<Match> full = null;
+        synchronized (this) {
+            buffer.addAll(parsed);
+            if (buffer.size() >= batchSize) {
+                full = drain();
+            }
+        }
+        if (full != null) {
+            publish(full);
+        }
+    }
+
+    public void flush() {
+        List<Match> pending;
+        synchronized (this) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            pending = drain();
+        }
+        publish(pending);
+    }
+
+    public synchronized long getRejectedCount() {
+        return rejected;
+    }
+
+    private List<Match> parse(String payload) {
+        List<Match> matches = new ArrayList<>();
+        try {
+            JsonNode node = objectMapper.readTree(payload);
+            if (node.isArray()) {
+                for (JsonNode element : node) {
+                    addRecord(element, matches);
+                }
+            } else {
+                addRecord(node, matches);
+            }
+        } catch (Exception e) {
+            synchronized (this) {
+                rejected++;
+            }
+        }
+        return matches;
+    }
+
+    private void addRecord(JsonNode record, List<Match> target) {
+        if (!record.isObject()) {
+            synchronized (this) {
+                rejected++;
+            }
+            return;
+        }
+        String[] header = new String[record.size()];
+        String[] values = new String[record.size()];
+        int i = 0;
+        Iterator<Map.Entry<String, JsonNode>> fields = record.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            header[i] = field.getKey();
+            values[i] = field.getValue().isNull() ? null : field.getValue().asText();
+            i++;
+        }
+        Match match = csvLoader.parseRecord(header, values);
+        // Rows are keyed by round and match number; a record without them would overwrite a shared (0, 0) row.
+        if (match.getRound() <= 0 || match.getMatchNo() <= 0) {
+            synchronized (this) {
+                rejected++;
+            }
+            return;
+        }
+        target.add(match);
+    }
+
+    private List<Match> drain() {
+        List<Match> drained = buffer;
+        buffer = new ArrayList<>(batchSize);
+        return drained;
+    }
+
+    private void publish(List<Match> batch) {
+        for (Consumer<List<Match>> listener : listeners) {
+            try {
+                listener.accept(batch);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
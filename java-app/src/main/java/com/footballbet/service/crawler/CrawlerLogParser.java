@@ -2,42 +2,57 @@ package com.footballbet.service.crawler;
 
 import com.footballbet.common.CrawlerConstants;
 import com.footballbet.domain.crawler.CrawlerStatus;
-import com.footballbet.dto.crawler.CrawlerState;
+import java.util.function.Consumer;
 
 public class CrawlerLogParser {
 
-    public boolean parseAndUpdate(String line, CrawlerState currentState) {
+    private final Consumer<String> dataConsumer;
+
+    public CrawlerLogParser() {
+        this(null);
+    }
+
+    public CrawlerLogParser(Consumer<String> dataConsumer) {
+        this.dataConsumer = dataConsumer;
+    }
+
+    public boolean parseAndUpdate(String line, CrawlerStateStore stateStore) {
         if (line == null || line.isEmpty())
             return false;
 
         if (line.startsWith(CrawlerConstants.PREFIX_STATUS_START)) {
-            currentState.setStatus(CrawlerStatus.RUNNING);
+            stateStore.update(state -> state.withStatus(CrawlerStatus.RUNNING));
             return true;
         }
 
         if (line.startsWith(CrawlerConstants.PREFIX_STATUS_COMPLETE)) {
-            currentState.setStatus(CrawlerStatus.COMPLETED);
-            currentState.setProgress(100);
+            stateStore.update(state -> state.with(CrawlerStatus.COMPLETED, 100, state.lastLog()));
             return true;
         }
 
         if (line.startsWith(CrawlerConstants.PREFIX_PROGRESS)) {
             try {
                 String val = line.split(":")[1];
-                currentState.setProgress(Integer.parseInt(val.trim()));
+                int progress = Integer.parseInt(val.trim());
+                stateStore.update(state -> state.withProgress(progress));
             } catch (Exception e) {
             }
             return true;
         }
 
+        if (line.startsWith(CrawlerConstants.PREFIX_DATA)) {
+            if (dataConsumer != null) {
+                dataConsumer.accept(line.substring(CrawlerConstants.PREFIX_DATA.length()));
+            }
+            return true;
+        }
+
         if (line.startsWith(CrawlerConstants.PREFIX_ERROR)) {
-            currentState.setStatus(CrawlerStatus.FAILED);
-            currentState.setStatus(CrawlerStatus.FAILED);
-            currentState.setLastLog(line);
+            stateStore.update(state -> state.with(CrawlerStatus.FAILED, state.progress(), line));
             return true;
         }
 
-        currentState.setLastLog(line);
+        stateStore.update(state -> state.withLastLog(line));
         return false;
     }
 }
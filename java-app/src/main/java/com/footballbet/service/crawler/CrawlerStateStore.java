@@ -0,0 +1,27 @@
+package com.footballbet.service.crawler;
+
+import com.footballbet.domain.crawler.CrawlerStatus;
+import com.footballbet.dto.crawler.CrawlerState;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+// Publishes immutable CrawlerState snapshots through CAS; every effective change bumps the version.
+public class CrawlerStateStore {
+    private final AtomicReference<CrawlerState> state;
+
+    public CrawlerStateStore() {
+        this.state = new AtomicReference<>(new CrawlerState(CrawlerStatus.IDLE, 0, ""));
+    }
+
+    public CrawlerState get() {
+        return state.get();
+    }
+
+    public long version() {
+        return state.get().version();
+    }
+
+    public CrawlerState update(UnaryOperator<CrawlerState> transition) {
+        return state.updateAndGet(transition);
+    }
+}
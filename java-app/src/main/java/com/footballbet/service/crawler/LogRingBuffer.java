@@ -0,0 +1,44 @@
+package com.footballbet.service.crawler;
+
+import com.footballbet.dto.crawler.CrawlerLogs;
+import com.footballbet.dto.crawler.LogEntry;
+import java.util.ArrayList;
+import java.util.List;
+
+// Fixed-capacity log history; sequence numbers start at 1 and never repeat.
+public class LogRingBuffer {
+    private final String[] lines;
+    private final int mask;
+    private long nextSeq = 1;
+
+    public LogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.lines = new String[size];
+        this.mask = size - 1;
+    }
+
+    public synchronized long append(String line) {
+        long seq = nextSeq++;
+        lines[(int) (seq & mask)] = line;
+        return seq;
+    }
+
+    public synchronized long lastSeq() {
+        return nextSeq - 1;
+    }
+
+    public CrawlerLogs since(long seq) {
+        return since(seq, lines.length);
+    }
+
+    public synchronized CrawlerLogs since(long seq, int limit) {
+        long oldest = Math.max(1, nextSeq - lines.length);
+        long from = Math.max(seq + 1, oldest);
+        long to = Math.min(nextSeq, from + Math.max(limit, 0));
+        List<LogEntry> entries = new ArrayList<>((int) Math.max(0, to - from));
+        for (long s = from; s < to; s++) {
+            entries.add(new LogEntry(s, lines[(int) (s & mask)]));
+        }
+        return new CrawlerLogs(to - 1, seq + 1 < oldest, entries);
+    }
+}
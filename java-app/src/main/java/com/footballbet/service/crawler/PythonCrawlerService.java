@@ -2,22 +2,35 @@ package com.footballbet.service.crawler;
 
 import com.footballbet.common.CrawlerConstants;
 import com.footballbet.domain.crawler.CrawlerStatus;
+import com.footballbet.dto.crawler.CrawlerLogs;
 import com.footballbet.dto.crawler.CrawlerRequest;
 import com.footballbet.dto.crawler.CrawlerState;
+import com.footballbet.model.Match;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public class PythonCrawlerService implements CrawlerService {
+    private static final int LOG_CAPACITY = 2048;
 
     private final PythonExecutor executor;
     private final CrawlerLogParser parser;
-    private CrawlerState currentState;
+    private final CrawlerDataStream dataStream;
+    private final LogRingBuffer logBuffer;
+    private final ConsoleEcho console;
+    private final List<Runnable> completionListeners;
+    private final CrawlerStateStore stateStore;
 
     public PythonCrawlerService() {
         this.executor = new PythonExecutor(CrawlerConstants.PYTHON_CMD, CrawlerConstants.SCRIPT_PATH);
-        this.parser = new CrawlerLogParser();
-        this.currentState = new CrawlerState(CrawlerStatus.IDLE, 0, "");
+        this.dataStream = new CrawlerDataStream();
+        this.logBuffer = new LogRingBuffer(LOG_CAPACITY);
+        this.console = new ConsoleEcho();
+        this.parser = new CrawlerLogParser(dataStream::accept);
+        this.completionListeners = new CopyOnWriteArrayList<>();
+        this.stateStore = new CrawlerStateStore();
     }
 
     @Override
@@ -27,9 +40,7 @@ public class PythonCrawlerService implements CrawlerService {
         }
 
         List<String> args = buildArgs(request);
-        currentState.setStatus(CrawlerStatus.RUNNING);
-        currentState.setProgress(0);
-        currentState.setLastLog("Starting crawler process...");
+        stateStore.update(state -> state.with(CrawlerStatus.RUNNING, 0, "Starting crawler process..."));
 
         try {
             executor.execute(
@@ -38,8 +49,8 @@ public class PythonCrawlerService implements CrawlerService {
                     this::handleError,
                     this::handleExit);
         } catch (IOException e) {
-            currentState.setStatus(CrawlerStatus.FAILED);
-            currentState.setLastLog("Failed to start process: " + e.getMessage());
+            String message = "Failed to start process: " + e.getMessage();
+            stateStore.update(state -> state.with(CrawlerStatus.FAILED, state.progress(), message));
             e.printStackTrace();
         }
     }
@@ -48,17 +59,33 @@ public class PythonCrawlerService implements CrawlerService {
     public synchronized void stopCrawler() {
         if (executor.isRunning()) {
             executor.stop();
-            currentState.setLastLog("Stopping crawler (user requested)...");
+            stateStore.update(state -> state.withLastLog("Stopping crawler (user requested)..."));
         }
     }
 
     @Override
     public CrawlerStatus getStatus() {
-        return currentState.getStatus();
+        return stateStore.get().status();
     }
 
     public CrawlerState getFullState() {
-        return currentState;
+        return stateStore.get();
+    }
+
+    public long getLastLogSeq() {
+        return logBuffer.lastSeq();
+    }
+
+    public CrawlerLogs getLogs(long sinceSeq) {
+        return logBuffer.since(sinceSeq);
+    }
+
+    public void addCompletionListener(Runnable listener) {
+        completionListeners.add(listener);
+    }
+
+    public void addRecordListener(Consumer<List<Match>> listener) {
+        dataStream.addListener(listener);
     }
 
     private List<String> buildArgs(CrawlerRequest request) {
@@ -87,24 +114,44 @@ public class PythonCrawlerService implements CrawlerService {
     }
 
     private void handleOutput(String line) {
-        parser.parseAndUpdate(line, currentState);
-        System.out.println("[PYTHON] " + line);
+        if (parser.parseAndUpdate(line, stateStore) && line.startsWith(CrawlerConstants.PREFIX_DATA)) {
+            return;
+        }
+        logBuffer.append(line);
+        console.out("[PYTHON] " + line);
+
+        if (line.startsWith(CrawlerConstants.PREFIX_STATUS_COMPLETE)) {
+            notifyCompletion();
+        }
     }
 
     private void handleError(String line) {
-        System.err.println("[PYTHON ERR] " + line);
+        logBuffer.append(line);
+        console.err("[PYTHON ERR] " + line);
 
         if (line.startsWith(CrawlerConstants.PREFIX_ERROR)) {
-            currentState.setStatus(CrawlerStatus.FAILED);
-            currentState.setLastLog(line);
+            stateStore.update(state -> state.with(CrawlerStatus.FAILED, state.progress(), line));
         }
     }
 
     private void handleExit() {
         System.out.println("Python process exited.");
-        if (currentState.getStatus() == CrawlerStatus.RUNNING) {
-            currentState.setStatus(CrawlerStatus.IDLE);
-            currentState.setLastLog("Process finished.");
+        CrawlerState finished = stateStore.update(state -> state.status() == CrawlerStatus.RUNNING
+                ? state.with(CrawlerStatus.IDLE, state.progress(), "Process finished.")
+                : state);
+        if (finished.status() != CrawlerStatus.FAILED) {
+            notifyCompletion();
+        }
+    }
+
+    private void notifyCompletion() {
+        dataStream.flush();
+        for (Runnable listener : completionListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
         }
     }
 }
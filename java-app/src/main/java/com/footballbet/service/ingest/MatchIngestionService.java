@@ -0,0 +1,153 @@
+package com.footballbet.service.ingest;
+
+import com.footballbet.dto.load.FileLoadResult;
+import com.footballbet.dto.load.LoadReport;
+import com.footballbet.model.Match;
+import com.footballbet.repository.InMemoryMatchRepository;
+import com.footballbet.service.MatchService;
+import com.footballbet.service.quality.DataQualityValidator;
+import com.footballbet.store.MatchDataset;
+import com.footballbet.util.CsvLoader;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class MatchIngestionService {
+    private final String dataDir;
+    private final MatchService matchService;
+    private final CsvLoader csvLoader;
+    private final DataQualityValidator validator;
+    private final InMemoryMatchRepository repository;
+    private final MatchDataset dataset;
+    private final Map<String, FileStamp> ingested;
+    private final ExecutorService executor;
+    private final AtomicBoolean scanPending;
+    private final Queue<List<Match>> pendingBatches;
+    private final AtomicBoolean drainPending;
+
+    public MatchIngestionService(String dataDir, InMemoryMatchRepository repository, MatchDataset dataset) {
+        this.dataDir = dataDir;
+        this.matchService = new MatchService();
+        this.csvLoader = new CsvLoader();
+        this.validator = new DataQualityValidator();
+        this.repository = repository;
+        this.dataset = dataset;
+        this.ingested = new ConcurrentHashMap<>();
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "match-ingestion");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scanPending = new AtomicBoolean();
+        this.pendingBatches = new ConcurrentLinkedQueue<>();
+        this.drainPending = new AtomicBoolean();
+    }
+
+    public void start() {
+        executor.execute(this::loadInitial);
+    }
+
+    public void requestScan() {
+        if (scanPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                scanPending.set(false);
+                LoadReport report = ingestChangedFiles();
+                if (!report.files().isEmpty()) {
+                    System.out.println("[INGEST] " + report.summary());
+                }
+            });
+        }
+    }
+
+    // Batches that arrive while an upsert is running are coalesced into the next one, so a live crawl publishes
+    // at most once per upsert rather than once per batch.
+    public void submit(List<Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        pendingBatches.add(matches);
+        if (drainPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                drainPending.set(false);
+                List<Match> coalesced = new ArrayList<>();
+                List<Match> batch;
+                while ((batch = pendingBatches.poll()) != null) {
+                    coalesced.addAll(batch);
+                }
+                upsert(coalesced);
+            });
+        }
+    }
+
+    public void stop() {
+        executor.shutdown();
+    }
+
+    private void loadInitial() {
+        if (!new File(dataDir).isDirectory()) {
+            return;
+        }
+        LoadReport report = matchService.loadMatchesCached(dataDir);
+        for (FileLoadResult result : report.files()) {
+            if (!result.isFailed()) {
+                ingested.put(result.fileName(), FileStamp.of(new File(dataDir, result.fileName())));
+            }
+        }
+        upsert(report.matches());
+        System.out.println("[INGEST] " + report.summary());
+    }
+
+    private LoadReport ingestChangedFiles() {
+        long start = System.nanoTime();
+        List<Match> changed = new ArrayList<>();
+        List<FileLoadResult> results = new ArrayList<>();
+        // Duplicates only within this batch; a changed file replacing rows ingested earlier is an update.
+        DataQualityValidator.Duplicates seen = new DataQualityValidator.Duplicates();
+        if (new File(dataDir).isDirectory()) {
+            for (File file : matchService.listRoundFiles(dataDir)) {
+                FileStamp stamp = FileStamp.of(file);
+                if (stamp.equals(ingested.get(file.getName()))) {
+                    continue;
+                }
+                long fileStart = System.nanoTime();
+                List<Match> parsed = new ArrayList<>();
+                try {
+                    csvLoader.stream(file.getAbsolutePath(), parsed::add);
+                    changed.addAll(parsed);
+                    ingested.put(file.getName(), stamp);
+                    results.add(FileLoadResult.success(file.getName(), parsed.size(), elapsedMillis(fileStart))
+                            .withQuality(validator.validate(file.getName(), parsed, seen)));
+                } catch (Exception e) {
+                    results.add(FileLoadResult.failure(file.getName(), elapsedMillis(fileStart), e.getMessage()));
+                }
+            }
+        }
+        upsert(changed);
+        return new LoadReport(changed, results, elapsedMillis(start));
+    }
+
+    private void upsert(List<Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        repository.saveAll(matches);
+        dataset.publish(dataset.table().merge(matches), matches);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private record FileStamp(long size, long mtime) {
+        static FileStamp of(File file) {
+            return new FileStamp(file.length(), file.lastModified());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.footballbet.service.join;
+
+import com.footballbet.dto.join.JoinReport;
+import com.footballbet.dto.join.MatchJoin;
+import com.footballbet.dto.join.MatchJoinMiss;
+import com.footballbet.model.FlashscoreMatch;
+import com.footballbet.model.Score;
+import com.footballbet.store.MatchTable;
+import com.footballbet.store.StringDictionary;
+import com.footballbet.util.LongIntHashMap;
+import java.util.ArrayList;
+import java.util.List;
+
+// Sort-merge join of betinfo rows onto flashscore fixtures. Both sides are bucketed by (home, away) pair with a
+// counting sort and ordered by kickoff inside each bucket, so every bucket is merged with one sliding window
+// instead of comparing all rows. A row matches when exactly one fixture of the same pair kicks off within the
+// tolerance; the betinfo rows of one game (general, handicap, under/over) all join the same fixture.
+public class MatchJoiner {
+    private static final int NO_PAIR = -1;
+
+    public JoinReport join(MatchTable table, List<FlashscoreMatch> fixtures, int toleranceMinutes) {
+        long start = System.nanoTime();
+        StringDictionary teams = new StringDictionary(table.teams());
+        LongIntHashMap pairs = new LongIntHashMap(Math.max(16, fixtures.size()), NO_PAIR);
+
+        int[] fixturePair = new int[fixtures.size()];
+        long[] fixtureMinute = new long[fixtures.size()];
+        for (int f = 0; f < fixtures.size(); f++) {
+            FlashscoreMatch fixture = fixtures.get(f);
+            fixturePair[f] = pairId(pairs, teams.idOf(fixture.home()), teams.idOf(fixture.away()));
+            fixtureMinute[f] = MatchTable.toEpochMinute(fixture.kickoff());
+        }
+
+        // Rows without a kickoff or a pair flashscore never listed cannot match and skip the merge.
+        List<MatchJoinMiss> unmatched = new ArrayList<>();
+        int[] rowPair = new int[table.size()];
+        for (int i = 0; i < table.size(); i++) {
+            int home = table.homeId(i);
+            int away = table.awayId(i);
+            rowPair[i] = home == StringDictionary.NO_ID || away == StringDictionary.NO_ID
+                    || table.dateTimeMinute(i) == MatchTable.NO_DATE_TIME ? NO_PAIR
+                            : pairs.get(pairKey(home, away));
+            if (rowPair[i] == NO_PAIR)
+                unmatched.add(miss(table, i, 0));
+        }
+
+        int pairCount = pairs.size();
+        int[] rowOffsets = offsets(rowPair, pairCount);
+        int[] rows = bucket(rowPair, rowOffsets, table::dateTimeMinute);
+        int[] fixtureOffsets = offsets(fixturePair, pairCount);
+        int[] ordered = bucket(fixturePair, fixtureOffsets, f -> fixtureMinute[f]);
+
+        List<MatchJoin> matched = new ArrayList<>();
+        List<MatchJoinMiss> ambiguous = new ArrayList<>();
+        boolean[] used = new boolean[fixtures.size()];
+        long scoreConflicts = 0;
+        for (int p = 0; p < pairCount; p++) {
+            int low = fixtureOffsets[p];
+            int fixtureEnd = fixtureOffsets[p + 1];
+            for (int k = rowOffsets[p]; k < rowOffsets[p + 1]; k++) {
+                int row = rows[k];
+                long minute = table.dateTimeMinute(row);
+                // Rows advance in kickoff order, so fixtures that fell behind the window stay behind it.
+                while (low < fixtureEnd && fixtureMinute[ordered[low]] < minute - toleranceMinutes)
+                    low++;
+                int high = low;
+                while (high < fixtureEnd && fixtureMinute[ordered[high]] <= minute + toleranceMinutes)
+                    high++;
+
+                if (high - low == 0) {
+                    unmatched.add(miss(table, row, 0));
+                } else if (high - low > 1) {
+                    ambiguous.add(miss(table, row, high - low));
+                } else {
+                    int f = ordered[low];
+                    FlashscoreMatch fixture = fixtures.get(f);
+                    used[f] = true;
+                    Boolean scoreAgrees = scoreAgrees(table, row, fixture.score());
+                    if (Boolean.FALSE.equals(scoreAgrees))
+                        scoreConflicts++;
+                    matched.add(new MatchJoin(table.round(row), table.matchNo(row), table.home(row), table.away(row),
+                            table.dateTime(row), fixture.id(), fixture.kickoff(), fixtureMinute[f] - minute,
+                            scoreAgrees));
+                }
+            }
+        }
+
+        int unusedFixtures = 0;
+        for (boolean fixtureUsed : used) {
+            if (!fixtureUsed)
+                unusedFixtures++;
+        }
+        return new JoinReport(table.size(), fixtures.size(), toleranceMinutes, matched, unmatched, ambiguous,
+                unusedFixtures, scoreConflicts, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static int pairId(LongIntHashMap pairs, int home, int away) {
+        long key = pairKey(home, away);
+        int id = pairs.get(key);
+        if (id == NO_PAIR) {
+            id = pairs.size();
+            pairs.put(key, id);
+        }
+        return id;
+    }
+
+    private static long pairKey(int home, int away) {
+        return ((long) home << 32) | (away & 0xFFFFFFFFL);
+    }
+
+    private static int[] offsets(int[] pairOf, int pairCount) {
+        int[] offsets = new int[pairCount + 1];
+        for (int pair : pairOf) {
+            if (pair != NO_PAIR)
+                offsets[pair + 1]++;
+        }
+        for (int p = 0; p < pairCount; p++) {
+            offsets[p + 1] += offsets[p];
+        }
+        return offsets;
+    }
+
+    // Counting sort by pair, then insertion sort by kickoff inside each bucket; buckets hold a few games each.
+    private static int[] bucket(int[] pairOf, int[] offsets, IndexMinute minuteOf) {
+        int pairCount = offsets.length - 1;
+        int[] ordered = new int[offsets[pairCount]];
+        int[] fill = new int[pairCount];
+        System.arraycopy(offsets, 0, fill, 0, pairCount);
+        for (int i = 0; i < pairOf.length; i++) {
+            if (pairOf[i] != NO_PAIR)
+                ordered[fill[pairOf[i]]++] = i;
+        }
+        for (int p = 0; p < pairCount; p++) {
+            for (int k = offsets[p] + 1; k < offsets[p + 1]; k++) {
+                int index = ordered[k];
+                long minute = minuteOf.minute(index);
+                int j = k - 1;
+                while (j >= offsets[p] && minuteOf.minute(ordered[j]) > minute) {
+                    ordered[j + 1] = ordered[j];
+                    j--;
+                }
+                ordered[j + 1] = index;
+            }
+        }
+        return ordered;
+    }
+
+    private static Boolean scoreAgrees(MatchTable table, int row, Score score) {
+        if (score == null || table.scoreHome(row) == MatchTable.NO_VALUE)
+            return null;
+        return score.home() == table.scoreHome(row) && score.away() == table.scoreAway(row);
+    }
+
+    private static MatchJoinMiss miss(MatchTable table, int row, int candidates) {
+        return new MatchJoinMiss(table.round(row), table.matchNo(row), table.home(row), table.away(row),
+                table.dateTime(row), candidates);
+    }
+
+    private interface IndexMinute {
+        long minute(int index);
+    }
+}
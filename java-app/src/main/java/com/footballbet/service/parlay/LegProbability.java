@@ -0,0 +1,13 @@
+package com.footballbet.service.parlay;
+
+import com.footballbet.model.Match;
+import com.footballbet.model.Result;
+
+// Estimated chance that a pick wins. With the default, every leg's odds x probability equals the inverse
+// of the match overround, so expected value only becomes informative with an independent model.
+@FunctionalInterface
+public interface LegProbability {
+    LegProbability IMPLIED = (match, pick, impliedProbability) -> impliedProbability;
+
+    double estimate(Match match, Result pick, double impliedProbability);
+}
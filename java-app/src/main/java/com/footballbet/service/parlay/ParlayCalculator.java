@@ -0,0 +1,361 @@
+package com.footballbet.service.parlay;
+
+import com.footballbet.dto.parlay.ParlayLeg;
+import com.footballbet.dto.parlay.ParlaySlip;
+import com.footballbet.dto.parlay.ParlayStats;
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// Finds the best k-of-n slips over a round's matches, one pick per match. Objectives are products of per-leg
+// factors, so the search works in log space: a subtree is cut when the current sum plus the best factors
+// still available cannot beat the weakest slip in the bounded top-N heap. The first levels fork in parallel.
+public class ParlayCalculator {
+    private static final Result[] SIDES = { Result.WIN, Result.DRAW, Result.LOSE };
+    private static final int SPLIT_DEPTH = 2;
+
+    private final ForkJoinPool pool;
+    private final LegProbability legProbability;
+
+    public ParlayCalculator() {
+        this(ForkJoinPool.commonPool(), LegProbability.IMPLIED);
+    }
+
+    public ParlayCalculator(LegProbability legProbability) {
+        this(ForkJoinPool.commonPool(), legProbability);
+    }
+
+    public ParlayCalculator(ForkJoinPool pool, LegProbability legProbability) {
+        this.pool = pool;
+        this.legProbability = legProbability;
+    }
+
+    // With implied probabilities every slip's expected value is just the product of the overrounds.
+    public boolean usesImpliedProbability() {
+        return legProbability == LegProbability.IMPLIED;
+    }
+
+    // Slips are handed to the sink best first once the search completes.
+    public ParlayStats search(List<Match> matches, ParlayRequest request, Consumer<ParlaySlip> sink) {
+        long start = System.nanoTime();
+        Search search = new Search(candidates(matches), request);
+        if (search.size > 0) {
+            pool.invoke(new Node(search, 0, 0, 0, 0, 0, new int[request.maxLegs()], 0));
+        }
+        List<Slip> ranked = search.top.drain();
+        for (Slip slip : ranked) {
+            sink.accept(search.toSlip(slip));
+        }
+        return new ParlayStats(search.size, search.visited.sum(), search.pruned.sum(), ranked.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public List<ParlaySlip> search(List<Match> matches, ParlayRequest request) {
+        List<ParlaySlip> slips = new ArrayList<>(request.topN());
+        search(matches, request, slips::add);
+        return slips;
+    }
+
+    private List<Candidate> candidates(List<Match> matches) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (Match match : matches) {
+            if (match.getType() != MatchType.GENERAL && match.getType() != MatchType.HANDICAP)
+                continue;
+            double[] odds = { value(match.getWinOdd()), value(match.getDrawOdd()), value(match.getLoseOdd()) };
+            double inverseTotal = 0;
+            int quoted = 0;
+            for (double odd : odds) {
+                if (odd > 1) {
+                    inverseTotal += 1 / odd;
+                    quoted++;
+                }
+            }
+            if (quoted < 2)
+                continue;
+
+            List<Integer> sides = new ArrayList<>(3);
+            for (int s = 0; s < odds.length; s++) {
+                if (odds[s] > 1)
+                    sides.add(s);
+            }
+            int n = sides.size();
+            Candidate candidate = new Candidate(match, new int[n], new double[n], new double[n], new double[n],
+                    new double[n]);
+            for (int o = 0; o < sides.size(); o++) {
+                int side = sides.get(o);
+                double probability = legProbability.estimate(match, SIDES[side], (1 / odds[side]) / inverseTotal);
+                candidate.sides[o] = side;
+                candidate.odds[o] = odds[side];
+                candidate.probabilities[o] = probability;
+                candidate.logOdds[o] = Math.log(odds[side]);
+                candidate.logProbabilities[o] = Math.log(Math.max(probability, Double.MIN_VALUE));
+            }
+            candidates.add(candidate);
+        }
+        return candidates;
+    }
+
+    private static double value(Double odd) {
+        return odd == null ? Double.NaN : odd;
+    }
+
+    private record Candidate(Match match, int[] sides, double[] odds, double[] probabilities, double[] logOdds,
+            double[] logProbabilities) {
+    }
+
+    private record Slip(double score, int[] picks) {
+    }
+
+    private static final class Search {
+        final int size;
+        final Candidate[] candidates;
+        final double[][] scores;
+        // Per suffix start, the best per-match factor of each remaining match, sorted descending.
+        final double[][] suffixScores;
+        final double[][] suffixOdds;
+        final double[][] suffixProbabilities;
+        final ParlayRequest request;
+        final double minLogOdds;
+        final double minLogProbability;
+        final TopN top;
+        final LongAdder visited = new LongAdder();
+        final LongAdder pruned = new LongAdder();
+
+        Search(List<Candidate> list, ParlayRequest request) {
+            this.request = request;
+            this.minLogOdds = Math.log(Math.max(request.minTotalOdds(), Double.MIN_VALUE));
+            this.minLogProbability = request.minHitProbability() <= 0 ? Double.NEGATIVE_INFINITY
+                    : Math.log(request.minHitProbability());
+            this.top = new TopN(request.topN());
+
+            // Strong matches first, so good slips fill the heap early and tighten the bound.
+            list.sort(Comparator.comparingDouble((Candidate c) -> -best(c, scoresOf(c, request.objective()))));
+            this.size = list.size();
+            this.candidates = list.toArray(new Candidate[0]);
+            this.scores = new double[size][];
+            for (int i = 0; i < size; i++) {
+                scores[i] = scoresOf(candidates[i], request.objective());
+            }
+            this.suffixScores = suffixes(i -> best(candidates[i], scores[i]));
+            this.suffixOdds = suffixes(i -> best(candidates[i], candidates[i].logOdds));
+            this.suffixProbabilities = suffixes(i -> best(candidates[i], candidates[i].logProbabilities));
+        }
+
+        private double[][] suffixes(java.util.function.IntToDoubleFunction best) {
+            double[][] suffixes = new double[size + 1][];
+            for (int i = 0; i <= size; i++) {
+                double[] values = new double[size - i];
+                for (int j = i; j < size; j++) {
+                    values[j - i] = -best.applyAsDouble(j);
+                }
+                Arrays.sort(values);
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = -values[j];
+                }
+                suffixes[i] = values;
+            }
+            return suffixes;
+        }
+
+        private static double[] scoresOf(Candidate c, ParlayObjective objective) {
+            double[] result = new double[c.sides.length];
+            for (int o = 0; o < result.length; o++) {
+                result[o] = switch (objective) {
+                    case EXPECTED_VALUE -> c.logOdds[o] + c.logProbabilities[o];
+                    case TOTAL_ODDS -> c.logOdds[o];
+                    case HIT_PROBABILITY -> c.logProbabilities[o];
+                };
+            }
+            return result;
+        }
+
+        private static double best(Candidate c, double[] values) {
+            double best = Double.NEGATIVE_INFINITY;
+            for (double value : values) {
+                best = Math.max(best, value);
+            }
+            return best;
+        }
+
+        // Best sum reachable from the suffix: the forced legs plus any further positive factors. NaN if infeasible.
+        static double optimistic(double[] suffix, int need, int slots) {
+            if (suffix.length < need)
+                return Double.NaN;
+            double sum = 0;
+            int j = 0;
+            for (; j < need; j++) {
+                sum += suffix[j];
+            }
+            for (; j < slots && j < suffix.length && suffix[j] > 0; j++) {
+                sum += suffix[j];
+            }
+            return sum;
+        }
+
+        boolean promising(int next, int legs, double score, double logOdds, double logProbability) {
+            int need = Math.max(0, request.minLegs() - legs);
+            int slots = request.maxLegs() - legs;
+            double scoreBound = optimistic(suffixScores[next], need, slots);
+            if (Double.isNaN(scoreBound) || score + scoreBound < top.threshold())
+                return false;
+            double oddsBound = optimistic(suffixOdds[next], need, slots);
+            if (logOdds + oddsBound < minLogOdds)
+                return false;
+            double probabilityBound = optimistic(suffixProbabilities[next], need, 0);
+            return logProbability + probabilityBound >= minLogProbability;
+        }
+
+        void consider(int legs, double score, double logOdds, double logProbability, int[] picks) {
+            if (legs >= request.minLegs() && logOdds >= minLogOdds && logProbability >= minLogProbability) {
+                top.offer(score, picks, legs);
+            }
+        }
+
+        ParlaySlip toSlip(Slip slip) {
+            List<ParlayLeg> legs = new ArrayList<>(slip.picks().length);
+            double totalOdds = 1;
+            double hitProbability = 1;
+            for (int pick : slip.picks()) {
+                Candidate c = candidates[pick / 3];
+                int o = pick % 3;
+                Match match = c.match;
+                totalOdds *= c.odds[o];
+                hitProbability *= c.probabilities[o];
+                legs.add(new ParlayLeg(match.getRound(), match.getMatchNo(), match.getHome(), match.getAway(),
+                        SIDES[c.sides[o]], c.odds[o], c.probabilities[o]));
+            }
+            legs.sort(Comparator.comparingInt(ParlayLeg::matchNo));
+            return new ParlaySlip(legs, totalOdds, hitProbability, totalOdds * hitProbability - 1);
+        }
+    }
+
+    private static final class Node extends RecursiveAction {
+        private final Search search;
+        private final int next;
+        private final int legs;
+        private final double score;
+        private final double logOdds;
+        private final double logProbability;
+        private final int[] picks;
+        private final int depth;
+
+        Node(Search search, int next, int legs, double score, double logOdds, double logProbability, int[] picks,
+                int depth) {
+            this.search = search;
+            this.next = next;
+            this.legs = legs;
+            this.score = score;
+            this.logOdds = logOdds;
+            this.logProbability = logProbability;
+            this.picks = picks;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (depth >= SPLIT_DEPTH) {
+                expand(next, legs, score, logOdds, logProbability, picks);
+                return;
+            }
+            List<Node> children = new ArrayList<>();
+            for (int j = next; j < search.size; j++) {
+                Candidate c = search.candidates[j];
+                for (int o = 0; o < c.sides.length; o++) {
+                    int[] childPicks = picks.clone();
+                    childPicks[legs] = j * 3 + o;
+                    double childScore = score + search.scores[j][o];
+                    double childOdds = logOdds + c.logOdds[o];
+                    double childProbability = logProbability + c.logProbabilities[o];
+                    search.visited.increment();
+                    search.consider(legs + 1, childScore, childOdds, childProbability, childPicks);
+                    if (legs + 1 == search.request.maxLegs())
+                        continue;
+                    if (search.promising(j + 1, legs + 1, childScore, childOdds, childProbability)) {
+                        children.add(new Node(search, j + 1, legs + 1, childScore, childOdds, childProbability,
+                                childPicks, depth + 1));
+                    } else {
+                        search.pruned.increment();
+                    }
+                }
+            }
+            invokeAll(children);
+        }
+
+        private void expand(int from, int count, double current, double odds, double probability, int[] stack) {
+            for (int j = from; j < search.size; j++) {
+                Candidate c = search.candidates[j];
+                for (int o = 0; o < c.sides.length; o++) {
+                    double childScore = current + search.scores[j][o];
+                    double childOdds = odds + c.logOdds[o];
+                    double childProbability = probability + c.logProbabilities[o];
+                    stack[count] = j * 3 + o;
+                    search.visited.increment();
+                    search.consider(count + 1, childScore, childOdds, childProbability, stack);
+                    if (count + 1 == search.request.maxLegs())
+                        continue;
+                    if (search.promising(j + 1, count + 1, childScore, childOdds, childProbability)) {
+                        expand(j + 1, count + 1, childScore, childOdds, childProbability, stack);
+                    } else {
+                        search.pruned.increment();
+                    }
+                }
+            }
+        }
+    }
+
+    // Bounded min-heap of the best slips. Ties are broken on the picks so the result does not depend on
+    // which thread reached a slip first.
+    private static final class TopN {
+        private static final Comparator<Slip> ORDER = Comparator.comparingDouble(Slip::score)
+                .thenComparing(Slip::picks, (a, b) -> Arrays.compare(b, a));
+
+        private final int capacity;
+        private final PriorityQueue<Slip> heap;
+        private volatile double threshold = Double.NEGATIVE_INFINITY;
+
+        TopN(int capacity) {
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(capacity + 1, ORDER);
+        }
+
+        double threshold() {
+            return threshold;
+        }
+
+        void offer(double score, int[] picks, int legs) {
+            if (score < threshold)
+                return;
+            Slip slip = new Slip(score, Arrays.copyOf(picks, legs));
+            synchronized (heap) {
+                if (heap.size() < capacity) {
+                    heap.add(slip);
+                } else if (ORDER.compare(slip, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(slip);
+                } else {
+                    return;
+                }
+                if (heap.size() == capacity) {
+                    threshold = heap.peek().score();
+                }
+            }
+        }
+
+        List<Slip> drain() {
+            synchronized (heap) {
+                List<Slip> ranked = new ArrayList<>(heap);
+                ranked.sort(ORDER.reversed());
+                return ranked;
+            }
+        }
+    }
+}
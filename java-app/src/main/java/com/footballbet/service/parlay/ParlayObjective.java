@@ -0,0 +1,22 @@
+package com.footballbet.service.parlay;
+
+public enum ParlayObjective {
+    EXPECTED_VALUE,
+    TOTAL_ODDS,
+    HIT_PROBABILITY;
+
+    public static ParlayObjective from(String text) {
+        for (ParlayObjective objective : values()) {
+            if (objective.name().equalsIgnoreCase(text) || objective.name().replace("_", "").equalsIgnoreCase(text)) {
+                return objective;
+            }
+        }
+        if ("ev".equalsIgnoreCase(text))
+            return EXPECTED_VALUE;
+        if ("odds".equalsIgnoreCase(text))
+            return TOTAL_ODDS;
+        if ("probability".equalsIgnoreCase(text))
+            return HIT_PROBABILITY;
+        throw new IllegalArgumentException("Unknown objective: " + text);
+    }
+}
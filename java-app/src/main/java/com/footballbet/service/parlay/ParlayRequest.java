@@ -0,0 +1,21 @@
+package com.footballbet.service.parlay;
+
+public record ParlayRequest(int minLegs, int maxLegs, ParlayObjective objective, int topN, double minTotalOdds,
+        double minHitProbability) {
+
+    public static final int MAX_LEGS = 10;
+    public static final int MAX_TOP_N = 1000;
+
+    public ParlayRequest {
+        if (minLegs < 1 || maxLegs < minLegs || maxLegs > MAX_LEGS) {
+            throw new IllegalArgumentException("legs must satisfy 1 <= minLegs <= maxLegs <= " + MAX_LEGS);
+        }
+        if (topN < 1 || topN > MAX_TOP_N) {
+            throw new IllegalArgumentException("top must be between 1 and " + MAX_TOP_N);
+        }
+    }
+
+    public static ParlayRequest of(int minLegs, int maxLegs, ParlayObjective objective, int topN) {
+        return new ParlayRequest(minLegs, maxLegs, objective, topN, 1.0, 0.0);
+    }
+}
@@ -0,0 +1,204 @@
+package com.footballbet.service.quality;
+
+import com.footballbet.dto.quality.QualityIssue;
+import com.footballbet.dto.quality.RoundQuality;
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.model.Score;
+import com.footballbet.repository.InMemoryMatchRepository;
+import com.footballbet.util.LongIntHashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Sanity checks over loaded rows. The per-row checks run on the loader thread that parsed the file so validation
+// scales with the parallel load; duplicates are tallied afterwards in file order against every file of the load.
+// Every check is a few comparisons on the parsed row; nothing is re-read or re-parsed.
+//   margin:       1/win + 1/draw + 1/lose (1/win + 1/lose for two-way markets) within the overround bounds
+//   score/result: general matches by goal difference, odd/even matches by total goals
+//   result odd:   the odd paid must be the odd listed for the winning side
+public class DataQualityValidator {
+    public static final String PROPERTY_MIN_OVERROUND = "quality.minOverround";
+    public static final String PROPERTY_MAX_OVERROUND = "quality.maxOverround";
+
+    private static final double DEFAULT_MIN_OVERROUND = 1.0;
+    private static final double DEFAULT_MAX_OVERROUND = 1.5;
+    private static final double ODD_TOLERANCE = 0.005;
+    private static final int MAX_SAMPLES = 5;
+    private static final int NO_ROW = -1;
+    private static final QualityIssue[] ISSUES = QualityIssue.values();
+
+    private final double minOverround;
+    private final double maxOverround;
+
+    public DataQualityValidator() {
+        this(doubleProperty(PROPERTY_MIN_OVERROUND, DEFAULT_MIN_OVERROUND),
+                doubleProperty(PROPERTY_MAX_OVERROUND, DEFAULT_MAX_OVERROUND));
+    }
+
+    public DataQualityValidator(double minOverround, double maxOverround) {
+        this.minOverround = minOverround;
+        this.maxOverround = maxOverround;
+    }
+
+    // Checks the rows as the only file of the load.
+    public List<RoundQuality> validate(String source, List<Match> matches) {
+        return validate(source, matches, new Duplicates());
+    }
+
+    public List<RoundQuality> validate(String source, List<Match> matches, Duplicates seen) {
+        return report(source, matches, check(matches), seen);
+    }
+
+    // Issue bits per row for every check except duplicates, which need the rest of the load.
+    public int[] check(List<Match> matches) {
+        int[] issues = new int[matches.size()];
+        for (int i = 0; i < issues.length; i++) {
+            issues[i] = check(matches.get(i));
+        }
+        return issues;
+    }
+
+    // Files of one load must be reported in load order with the same Duplicates, so a match repeated in a later
+    // file is flagged there.
+    public List<RoundQuality> report(String source, List<Match> matches, int[] checked, Duplicates seen) {
+        Map<Integer, RoundTally> rounds = new TreeMap<>();
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            RoundTally tally = rounds.computeIfAbsent(match.getRound(), round -> new RoundTally());
+            tally.rows++;
+            int issues = checked[i];
+            if (!seen.add(match))
+                issues |= bit(QualityIssue.DUPLICATE_MATCH);
+            if (issues != 0)
+                tally.flag(match, issues);
+        }
+
+        List<RoundQuality> reports = new ArrayList<>(rounds.size());
+        for (Map.Entry<Integer, RoundTally> round : rounds.entrySet()) {
+            reports.add(round.getValue().report(round.getKey(), source));
+        }
+        return reports;
+    }
+
+    // Bit mask of QualityIssue ordinals.
+    private int check(Match match) {
+        int issues = 0;
+        if (match.getDateTime() == null)
+            issues |= bit(QualityIssue.MISSING_DATE_TIME);
+        if (match.getType() == null || match.getType() == MatchType.UNKNOWN)
+            issues |= bit(QualityIssue.UNKNOWN_TYPE);
+
+        Double win = match.getWinOdd();
+        Double draw = match.getDrawOdd();
+        Double lose = match.getLoseOdd();
+        if (win == null || lose == null) {
+            issues |= bit(QualityIssue.MISSING_ODDS);
+        } else if (win < 1.0 || lose < 1.0 || (draw != null && draw < 1.0)) {
+            issues |= bit(QualityIssue.ODDS_OUT_OF_RANGE);
+        } else {
+            double overround = 1 / win + 1 / lose + (draw == null ? 0 : 1 / draw);
+            if (overround < minOverround || overround > maxOverround)
+                issues |= bit(QualityIssue.MARGIN_OUT_OF_BOUNDS);
+        }
+
+        Result result = match.getResult();
+        Score score = match.getScore();
+        if (result != null && result != Result.UNKNOWN && score != null && !agrees(match.getType(), score, result))
+            issues |= bit(QualityIssue.SCORE_RESULT_MISMATCH);
+        Double resultOdd = match.getResultOdd();
+        if (resultOdd != null && result != null && result != Result.UNKNOWN
+                && !paysWinningOdd(resultOdd, result, win, draw, lose))
+            issues |= bit(QualityIssue.RESULT_ODD_MISMATCH);
+        return issues;
+    }
+
+    // Handicap and under/over results depend on a line the CSV does not carry, so they are not checked.
+    private static boolean agrees(MatchType type, Score score, Result result) {
+        if (type == MatchType.GENERAL) {
+            int difference = Integer.signum(score.home() - score.away());
+            return switch (result) {
+                case WIN -> difference > 0;
+                case DRAW -> difference == 0;
+                case LOSE -> difference < 0;
+                default -> false;
+            };
+        }
+        if (type == MatchType.SUM && (result == Result.ODD || result == Result.EVEN)) {
+            return ((score.home() + score.away()) % 2 == 1) == (result == Result.ODD);
+        }
+        return true;
+    }
+
+    // Two-way markets list their sides in the win and lose columns, so those results may pay either.
+    private static boolean paysWinningOdd(double resultOdd, Result result, Double win, Double draw, Double lose) {
+        return switch (result) {
+            case WIN -> same(resultOdd, win);
+            case DRAW -> same(resultOdd, draw);
+            case LOSE -> same(resultOdd, lose);
+            default -> same(resultOdd, win) || same(resultOdd, lose) || same(resultOdd, draw);
+        };
+    }
+
+    private static boolean same(double resultOdd, Double odd) {
+        return odd != null && Math.abs(resultOdd - odd) <= ODD_TOLERANCE;
+    }
+
+    private static int bit(QualityIssue issue) {
+        return 1 << issue.ordinal();
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null)
+            return defaultValue;
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            System.err.println("Ignoring " + name + "=" + value + ": not a number");
+            return defaultValue;
+        }
+    }
+
+    // Round and match numbers seen so far in one load.
+    public static final class Duplicates {
+        private final LongIntHashMap keys = new LongIntHashMap(1024, NO_ROW);
+
+        boolean add(Match match) {
+            return keys.put(InMemoryMatchRepository.key(match.getRound(), match.getMatchNo()), 0) == NO_ROW;
+        }
+    }
+
+    private static final class RoundTally {
+        private final int[] counts = new int[ISSUES.length];
+        private final List<String> samples = new ArrayList<>();
+        private int rows;
+        private int flagged;
+
+        void flag(Match match, int issues) {
+            flagged++;
+            List<String> names = samples.size() < MAX_SAMPLES ? new ArrayList<>() : null;
+            for (QualityIssue issue : ISSUES) {
+                if ((issues & bit(issue)) == 0)
+                    continue;
+                counts[issue.ordinal()]++;
+                if (names != null)
+                    names.add(issue.name());
+            }
+            if (names != null)
+                samples.add("matchNo " + match.getMatchNo() + ": " + String.join(", ", names));
+        }
+
+        RoundQuality report(int round, String source) {
+            Map<QualityIssue, Integer> issues = new EnumMap<>(QualityIssue.class);
+            for (QualityIssue issue : ISSUES) {
+                if (counts[issue.ordinal()] > 0)
+                    issues.put(issue, counts[issue.ordinal()]);
+            }
+            return new RoundQuality(round, source, rows, flagged, issues, List.copyOf(samples));
+        }
+    }
+}
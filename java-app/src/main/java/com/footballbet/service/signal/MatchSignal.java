@@ -0,0 +1,28 @@
+package com.footballbet.service.signal;
+
+import com.footballbet.model.Result;
+
+// Mirrors the renderer's MatchSignalAnalyzer: the favourite is the lower of winOdd and loseOdd.
+// With a two-sided favourite an upset (정배 붕괴) and an underdog hit (역배 적중) are the same event.
+public enum MatchSignal {
+    NONE,
+    FAVORITE_WIN,
+    DRAW,
+    UPSET;
+
+    public static MatchSignal classify(double winOdd, double loseOdd, Result result) {
+        if (result == null || Double.isNaN(winOdd) || Double.isNaN(loseOdd) || winOdd == loseOdd)
+            return NONE;
+        boolean homeFavorite = winOdd < loseOdd;
+        return switch (result) {
+            case WIN -> homeFavorite ? FAVORITE_WIN : UPSET;
+            case LOSE -> homeFavorite ? UPSET : FAVORITE_WIN;
+            case DRAW -> DRAW;
+            default -> NONE;
+        };
+    }
+
+    public static double favoriteOdd(double winOdd, double loseOdd) {
+        return Math.min(winOdd, loseOdd);
+    }
+}
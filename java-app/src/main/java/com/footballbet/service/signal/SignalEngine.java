@@ -0,0 +1,289 @@
+package com.footballbet.service.signal;
+
+import com.footballbet.dto.signal.MatchSignalEntry;
+import com.footballbet.dto.signal.SignalAggregate;
+import com.footballbet.dto.signal.SignalReport;
+import com.footballbet.model.Match;
+import com.footballbet.model.Result;
+import com.footballbet.repository.InMemoryMatchRepository;
+import com.footballbet.store.MatchDataset;
+import com.footballbet.store.MatchTable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Keeps per-match signals and their league, team and odds-band aggregates up to date from dataset
+// publishes. Only the changed matches are applied: a replaced match first takes back its previous
+// contribution, so counters never need a full recompute.
+public class SignalEngine {
+    public static final String PROPERTY_WINDOW = "signals.window";
+
+    private static final int DEFAULT_WINDOW = 20;
+    private static final double[] BAND_EDGES = { 1.0, 1.3, 1.6, 2.0, 2.5 };
+
+    private static final byte FAVORITE_WIN = 1;
+    private static final byte DRAW = 2;
+    private static final byte UPSET = 4;
+    private static final byte UNDERDOG_WIN = 8;
+
+    private final int window;
+    private final ReentrantReadWriteLock lock;
+    private final NavigableMap<Long, Entry> entries;
+    private final Aggregate overall;
+    private final Map<String, Aggregate> leagues;
+    private final Map<String, Aggregate> teams;
+    private final Map<String, Aggregate> bands;
+    private long version;
+    private volatile SignalReport report;
+
+    public SignalEngine(MatchDataset dataset) {
+        this(dataset, Integer.getInteger(PROPERTY_WINDOW, DEFAULT_WINDOW));
+    }
+
+    public SignalEngine(MatchDataset dataset, int window) {
+        this.window = Math.max(1, window);
+        this.lock = new ReentrantReadWriteLock();
+        this.entries = new TreeMap<>();
+        this.overall = new Aggregate("ALL");
+        this.leagues = new HashMap<>();
+        this.teams = new HashMap<>();
+        this.bands = new HashMap<>();
+        // Listen before seeding so nothing published in between is missed. The seed reads the table under the
+        // write lock, so a publish that lands first cannot be overwritten by an older table afterwards.
+        dataset.addListener(this::apply);
+        lock.writeLock().lock();
+        try {
+            MatchTable table = dataset.table();
+            List<Match> current = new ArrayList<>(table.size());
+            for (int i = 0; i < table.size(); i++) {
+                current.add(table.toMatch(i));
+            }
+            apply(current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void apply(List<Match> changed) {
+        lock.writeLock().lock();
+        try {
+            boolean modified = false;
+            for (Match match : changed) {
+                long key = InMemoryMatchRepository.key(match.getRound(), match.getMatchNo());
+                Entry next = Entry.of(match);
+                Entry previous = entries.put(key, next);
+                if (next.equals(previous))
+                    continue;
+                if (previous != null)
+                    contribute(key, previous, false);
+                contribute(key, next, true);
+                modified = true;
+            }
+            if (modified)
+                version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long version() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SignalReport report() {
+        SignalReport cached = report;
+        lock.readLock().lock();
+        try {
+            if (cached != null && cached.version() == version)
+                return cached;
+            SignalReport built = new SignalReport(version, window, overall.snapshot(window),
+                    snapshots(leagues), snapshots(teams), bandSnapshots());
+            report = built;
+            return built;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<MatchSignalEntry> signals(int roundFrom, int roundTo) {
+        lock.readLock().lock();
+        try {
+            List<MatchSignalEntry> result = new ArrayList<>();
+            for (Map.Entry<Long, Entry> e : entries.subMap(InMemoryMatchRepository.key(roundFrom, 0), true,
+                    InMemoryMatchRepository.key(roundTo, -1), true).entrySet()) {
+                long key = e.getKey();
+                Entry entry = e.getValue();
+                String favorite = Double.isNaN(entry.favoriteOdd) ? null : entry.homeFavorite ? "HOME" : "AWAY";
+                result.add(new MatchSignalEntry((int) (key >> 32), (int) key, entry.home, entry.away, favorite,
+                        entry.favoriteOdd, entry.signal.name(), entry.signal == MatchSignal.UPSET));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int latestRound() {
+        lock.readLock().lock();
+        try {
+            return entries.isEmpty() ? 0 : (int) (entries.lastKey() >> 32);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void contribute(long key, Entry entry, boolean add) {
+        if (entry.signal == MatchSignal.NONE)
+            return;
+        byte outcome = switch (entry.signal) {
+            case FAVORITE_WIN -> FAVORITE_WIN;
+            case DRAW -> DRAW;
+            default -> UPSET | UNDERDOG_WIN;
+        };
+        update(overall, key, outcome, add);
+        update(aggregate(leagues, entry.league), key, outcome, add);
+        update(aggregate(bands, entry.band), key, outcome, add);
+
+        // From a team's side an upset is either its own collapse as favourite or its own underdog win.
+        byte homeOutcome = outcome;
+        byte awayOutcome = outcome;
+        if (entry.signal == MatchSignal.UPSET) {
+            homeOutcome = entry.homeFavorite ? UPSET : UNDERDOG_WIN;
+            awayOutcome = entry.homeFavorite ? UNDERDOG_WIN : UPSET;
+        }
+        update(aggregate(teams, entry.home), key, homeOutcome, add);
+        update(aggregate(teams, entry.away), key, awayOutcome, add);
+    }
+
+    private static void update(Aggregate aggregate, long key, byte outcome, boolean add) {
+        if (aggregate == null)
+            return;
+        if (add) {
+            aggregate.add(key, outcome);
+        } else {
+            aggregate.remove(key);
+        }
+    }
+
+    private static Aggregate aggregate(Map<String, Aggregate> map, String key) {
+        return key == null ? null : map.computeIfAbsent(key, Aggregate::new);
+    }
+
+    private List<SignalAggregate> snapshots(Map<String, Aggregate> map) {
+        List<SignalAggregate> result = new ArrayList<>(map.size());
+        for (Aggregate aggregate : map.values()) {
+            if (aggregate.matches > 0)
+                result.add(aggregate.snapshot(window));
+        }
+        result.sort(Comparator.comparingInt(SignalAggregate::matches).reversed()
+                .thenComparing(SignalAggregate::key));
+        return result;
+    }
+
+    private List<SignalAggregate> bandSnapshots() {
+        List<SignalAggregate> result = new ArrayList<>(BAND_EDGES.length);
+        for (int i = 0; i < BAND_EDGES.length; i++) {
+            Aggregate aggregate = bands.get(bandLabel(i));
+            result.add(aggregate == null ? new Aggregate(bandLabel(i)).snapshot(window) : aggregate.snapshot(window));
+        }
+        return result;
+    }
+
+    static String band(double favoriteOdd) {
+        if (Double.isNaN(favoriteOdd))
+            return null;
+        for (int i = BAND_EDGES.length - 1; i >= 0; i--) {
+            if (favoriteOdd >= BAND_EDGES[i])
+                return bandLabel(i);
+        }
+        return bandLabel(0);
+    }
+
+    private static String bandLabel(int i) {
+        return i == BAND_EDGES.length - 1 ? String.format("%.2f+", BAND_EDGES[i])
+                : String.format("%.2f-%.2f", BAND_EDGES[i], BAND_EDGES[i + 1]);
+    }
+
+    private record Entry(MatchSignal signal, String league, String home, String away, boolean homeFavorite,
+            double favoriteOdd, String band) {
+
+        static Entry of(Match match) {
+            double winOdd = match.getWinOdd() == null ? Double.NaN : match.getWinOdd();
+            double loseOdd = match.getLoseOdd() == null ? Double.NaN : match.getLoseOdd();
+            Result result = match.getResult();
+            MatchSignal signal = MatchSignal.classify(winOdd, loseOdd, result);
+            double favoriteOdd = Double.isNaN(winOdd) || Double.isNaN(loseOdd) || winOdd == loseOdd ? Double.NaN
+                    : MatchSignal.favoriteOdd(winOdd, loseOdd);
+            return new Entry(signal, match.getLeague(), match.getHome(), match.getAway(), winOdd < loseOdd,
+                    favoriteOdd, SignalEngine.band(favoriteOdd));
+        }
+    }
+
+    private static final class Aggregate {
+        private final String key;
+        private final NavigableMap<Long, Byte> outcomes;
+        private int matches;
+        private int favoriteWins;
+        private int draws;
+        private int upsets;
+        private int underdogWins;
+
+        Aggregate(String key) {
+            this.key = key;
+            this.outcomes = new TreeMap<>();
+        }
+
+        void add(long matchKey, byte outcome) {
+            Byte previous = outcomes.put(matchKey, outcome);
+            if (previous != null)
+                count(previous, -1);
+            count(outcome, 1);
+        }
+
+        void remove(long matchKey) {
+            Byte previous = outcomes.remove(matchKey);
+            if (previous != null)
+                count(previous, -1);
+        }
+
+        private void count(byte outcome, int delta) {
+            matches += delta;
+            if ((outcome & FAVORITE_WIN) != 0)
+                favoriteWins += delta;
+            if ((outcome & DRAW) != 0)
+                draws += delta;
+            if ((outcome & UPSET) != 0)
+                upsets += delta;
+            if ((outcome & UNDERDOG_WIN) != 0)
+                underdogWins += delta;
+        }
+
+        SignalAggregate snapshot(int window) {
+            int rolling = 0;
+            int rollingUpsets = 0;
+            int rollingUnderdogWins = 0;
+            Iterator<Byte> it = outcomes.descendingMap().values().iterator();
+            while (rolling < window && it.hasNext()) {
+                byte outcome = it.next();
+                rolling++;
+                if ((outcome & UPSET) != 0)
+                    rollingUpsets++;
+                if ((outcome & UNDERDOG_WIN) != 0)
+                    rollingUnderdogWins++;
+            }
+            return new SignalAggregate(key, matches, favoriteWins, draws, upsets, underdogWins, rolling,
+                    rollingUpsets, rollingUnderdogWins);
+        }
+    }
+}
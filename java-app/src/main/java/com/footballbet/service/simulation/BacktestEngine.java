@@ -0,0 +1,226 @@
+package com.footballbet.service.simulation;
+
+import com.footballbet.dto.simulation.BacktestResult;
+import com.footballbet.model.Result;
+import com.footballbet.store.MatchTable;
+import com.footballbet.store.StringDictionary;
+import java.util.ArrayList;
+import java.util.List;
+
+// Replays strategies over a MatchTable in (round, matchNo) order. Per-row favourite side and settled
+// outcome are derived once in the constructor; a run then reads primitive columns only and allocates
+// nothing per match.
+public class BacktestEngine {
+    public static final double DEFAULT_BANKROLL = 100.0;
+
+    static final byte SIDE_NONE = -1;
+    static final byte SIDE_WIN = 0;
+    static final byte SIDE_DRAW = 1;
+    static final byte SIDE_LOSE = 2;
+
+    private final MatchTable table;
+    private final double startBankroll;
+    private final int[] roundStarts;
+    private final int[] roundNumbers;
+    private final byte[] favoriteSide;
+    private final byte[] outcome;
+
+    public BacktestEngine(MatchTable table) {
+        this(table, DEFAULT_BANKROLL);
+    }
+
+    public BacktestEngine(MatchTable table, double startBankroll) {
+        this.table = table;
+        this.startBankroll = startBankroll;
+
+        int size = table.size();
+        int rounds = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || table.round(i) != table.round(i - 1))
+                rounds++;
+        }
+        this.roundStarts = new int[rounds + 1];
+        this.roundNumbers = new int[rounds];
+        this.favoriteSide = new byte[size];
+        this.outcome = new byte[size];
+
+        int r = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || table.round(i) != table.round(i - 1)) {
+                roundStarts[r] = i;
+                roundNumbers[r] = table.round(i);
+                r++;
+            }
+            favoriteSide[i] = favorite(table.winOdd(i), table.loseOdd(i));
+            outcome[i] = outcome(table.resultOrdinal(i));
+        }
+        roundStarts[rounds] = size;
+    }
+
+    public int rounds() {
+        return roundNumbers.length;
+    }
+
+    public List<BacktestResult> runAll(List<Strategy> strategies) {
+        List<BacktestResult> results = new ArrayList<>(strategies.size());
+        for (Strategy strategy : strategies) {
+            results.add(run(strategy));
+        }
+        return results;
+    }
+
+    public BacktestResult run(Strategy strategy) {
+        boolean[] leagueAllowed = leagueFilter(strategy);
+        double[] curve = new double[roundNumbers.length];
+        double stake = strategy.stake();
+        double bankroll = startBankroll;
+        double peak = startBankroll;
+        double maxDrawdown = 0;
+        double maxDrawdownRatio = 0;
+        int bets = 0;
+        int hits = 0;
+        double staked = 0;
+        double returned = 0;
+
+        for (int r = 0; r < roundNumbers.length; r++) {
+            for (int i = roundStarts[r]; i < roundStarts[r + 1]; i++) {
+                byte side = select(strategy, leagueAllowed, i);
+                if (side == SIDE_NONE)
+                    continue;
+
+                bets++;
+                staked += stake;
+                bankroll -= stake;
+                if (side == outcome[i]) {
+                    double payout = stake * payoutOdd(i, side);
+                    hits++;
+                    returned += payout;
+                    bankroll += payout;
+                }
+                if (bankroll > peak) {
+                    peak = bankroll;
+                } else if (peak - bankroll > maxDrawdown) {
+                    maxDrawdown = peak - bankroll;
+                    maxDrawdownRatio = peak > 0 ? maxDrawdown / peak : 1;
+                }
+            }
+            curve[r] = bankroll;
+        }
+
+        return new BacktestResult(strategy.name(), bets, hits, staked, returned, startBankroll, bankroll,
+                maxDrawdown, maxDrawdownRatio, roundNumbers.clone(), curve);
+    }
+
+    // The strategy's settled bets grouped by round, as input for resampling.
+    public StrategyBets betsFor(Strategy strategy) {
+        boolean[] leagueAllowed = leagueFilter(strategy);
+        int count = 0;
+        for (int i = 0; i < table.size(); i++) {
+            if (select(strategy, leagueAllowed, i) != SIDE_NONE)
+                count++;
+        }
+
+        int[] starts = new int[roundNumbers.length + 1];
+        double[] payoutOdds = new double[count];
+        double[] impliedProbabilities = new double[count];
+        boolean[] hits = new boolean[count];
+        int b = 0;
+        for (int r = 0; r < roundNumbers.length; r++) {
+            starts[r] = b;
+            for (int i = roundStarts[r]; i < roundStarts[r + 1]; i++) {
+                byte side = select(strategy, leagueAllowed, i);
+                if (side == SIDE_NONE)
+                    continue;
+                payoutOdds[b] = payoutOdd(i, side);
+                impliedProbabilities[b] = impliedProbability(i, side);
+                hits[b] = side == outcome[i];
+                b++;
+            }
+        }
+        starts[roundNumbers.length] = b;
+        return new StrategyBets(strategy, startBankroll, roundNumbers.clone(), starts, payoutOdds,
+                impliedProbabilities, hits);
+    }
+
+    private byte select(Strategy strategy, boolean[] leagueAllowed, int i) {
+        if (outcome[i] == SIDE_NONE)
+            return SIDE_NONE;
+        if (!strategy.acceptsType(table.typeOrdinal(i)))
+            return SIDE_NONE;
+        if (leagueAllowed != null) {
+            int league = table.leagueId(i);
+            if (league == StringDictionary.NO_ID || !leagueAllowed[league])
+                return SIDE_NONE;
+        }
+        byte side = pick(strategy.pick(), favoriteSide[i]);
+        if (side == SIDE_NONE)
+            return SIDE_NONE;
+        double odd = odd(i, side);
+        if (Double.isNaN(odd) || !strategy.acceptsOdd(odd))
+            return SIDE_NONE;
+        return side;
+    }
+
+    private double payoutOdd(int i, byte side) {
+        double resultOdd = table.resultOdd(i);
+        return side == outcome[i] && !Double.isNaN(resultOdd) ? resultOdd : odd(i, side);
+    }
+
+    // Bookmaker margin is removed by normalising the inverse odds of the quoted selections.
+    private double impliedProbability(int i, byte side) {
+        double total = 0;
+        for (byte s = SIDE_WIN; s <= SIDE_LOSE; s++) {
+            double odd = odd(i, s);
+            if (!Double.isNaN(odd) && odd > 0)
+                total += 1 / odd;
+        }
+        return total == 0 ? 0 : (1 / odd(i, side)) / total;
+    }
+
+    private boolean[] leagueFilter(Strategy strategy) {
+        if (strategy.leagues().isEmpty())
+            return null;
+        StringDictionary leagues = table.leagues();
+        boolean[] allowed = new boolean[leagues.size()];
+        for (String league : strategy.leagues()) {
+            int id = leagues.find(league);
+            if (id != StringDictionary.NO_ID)
+                allowed[id] = true;
+        }
+        return allowed;
+    }
+
+    private double odd(int i, byte side) {
+        return switch (side) {
+            case SIDE_WIN -> table.winOdd(i);
+            case SIDE_DRAW -> table.drawOdd(i);
+            default -> table.loseOdd(i);
+        };
+    }
+
+    static byte pick(PickRule rule, byte favorite) {
+        return switch (rule) {
+            case FAVORITE -> favorite;
+            case UNDERDOG -> favorite == SIDE_NONE ? SIDE_NONE : (byte) (SIDE_LOSE - favorite);
+            case DRAW -> SIDE_DRAW;
+        };
+    }
+
+    // The favourite is the lower of the home and away odds; level odds have no favourite.
+    static byte favorite(double winOdd, double loseOdd) {
+        if (Double.isNaN(winOdd) || Double.isNaN(loseOdd) || winOdd == loseOdd)
+            return SIDE_NONE;
+        return winOdd < loseOdd ? SIDE_WIN : SIDE_LOSE;
+    }
+
+    // Only win/draw/lose results settle a pick; under-over and odd-even rows are skipped.
+    static byte outcome(byte resultOrdinal) {
+        if (resultOrdinal == Result.WIN.ordinal())
+            return SIDE_WIN;
+        if (resultOrdinal == Result.DRAW.ordinal())
+            return SIDE_DRAW;
+        if (resultOrdinal == Result.LOSE.ordinal())
+            return SIDE_LOSE;
+        return SIDE_NONE;
+    }
+}
@@ -0,0 +1,200 @@
+package com.footballbet.service.simulation;
+
+import com.footballbet.dto.simulation.MonteCarloResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Resamples a strategy's bankroll path many times. Paths are split into a fixed number of chunks, each
+// with its own SplittableRandom split from the seed, so results do not depend on the thread count.
+// Per-step bankrolls go into histograms whose bins are evenly spaced on a cheap monotonic log2 scale.
+public class MonteCarloSimulator {
+    public static final double[] PERCENTILES = { 0.05, 0.25, 0.50, 0.75, 0.95 };
+
+    private static final int CHUNKS = 64;
+    private static final int BINS = 512;
+    private static final double LOG2_RANGE = 6;
+    private static final double BIN_WIDTH = 2 * LOG2_RANGE / (BINS - 2);
+
+    public enum Mode {
+        // Each step replays the bets of a historical round drawn with replacement.
+        BOOTSTRAP,
+        // Rounds are kept in order and each bet hits with its margin-free implied probability.
+        IMPLIED
+    }
+
+    private final int parallelism;
+
+    public MonteCarloSimulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public MonteCarloSimulator(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public MonteCarloResult simulate(StrategyBets bets, Mode mode, int paths, long seed) {
+        long start = System.nanoTime();
+        int steps = bets.roundCount();
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[CHUNKS];
+        for (int c = 0; c < CHUNKS; c++) {
+            randoms[c] = root.split();
+        }
+
+        int workers = Math.min(parallelism, CHUNKS);
+        double[] chunkSums = new double[CHUNKS];
+        long[] chunkRuined = new long[CHUNKS];
+        long[] chunkProfitable = new long[CHUNKS];
+        int[] histogram = new int[steps * BINS];
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<int[]>> futures = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                int worker = w;
+                futures.add(pool.submit(() -> {
+                    int[] local = new int[steps * BINS];
+                    for (int c = worker; c < CHUNKS; c += workers) {
+                        runChunk(bets, mode, chunkPaths(paths, c), randoms[c], local, c,
+                                chunkSums, chunkRuined, chunkProfitable);
+                    }
+                    return local;
+                }));
+            }
+            for (Future<int[]> future : futures) {
+                int[] local = future.get();
+                for (int i = 0; i < histogram.length; i++) {
+                    histogram[i] += local[i];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        double sum = 0;
+        long ruined = 0;
+        long profitable = 0;
+        for (int c = 0; c < CHUNKS; c++) {
+            sum += chunkSums[c];
+            ruined += chunkRuined[c];
+            profitable += chunkProfitable[c];
+        }
+
+        double[][] curves = new double[PERCENTILES.length][steps];
+        for (int s = 0; s < steps; s++) {
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                curves[p][s] = percentile(histogram, s, paths, PERCENTILES[p], bets.startBankroll());
+            }
+        }
+
+        return new MonteCarloResult(
+                bets.strategy().name(),
+                mode.name(),
+                paths,
+                seed,
+                bets.startBankroll(),
+                PERCENTILES.clone(),
+                curves,
+                paths == 0 ? bets.startBankroll() : sum / paths,
+                paths == 0 ? 0 : (double) ruined / paths,
+                paths == 0 ? 0 : (double) profitable / paths,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void runChunk(StrategyBets bets, Mode mode, int paths, SplittableRandom random, int[] histogram,
+            int chunk, double[] chunkSums, long[] chunkRuined, long[] chunkProfitable) {
+        int steps = bets.roundCount();
+        int[] starts = bets.roundStarts();
+        double[] payoutOdds = bets.payoutOdds();
+        double[] probabilities = bets.impliedProbabilities();
+        boolean[] hits = bets.hits();
+        double stake = bets.strategy().stake();
+        double startBankroll = bets.startBankroll();
+        boolean bootstrap = mode == Mode.BOOTSTRAP;
+
+        double sum = 0;
+        long ruined = 0;
+        long profitable = 0;
+        for (int path = 0; path < paths; path++) {
+            double bankroll = startBankroll;
+            boolean broke = false;
+            for (int s = 0; s < steps; s++) {
+                int r = bootstrap ? random.nextInt(steps) : s;
+                for (int b = starts[r]; !broke && b < starts[r + 1]; b++) {
+                    if (bankroll < stake) {
+                        broke = true;
+                        break;
+                    }
+                    bankroll -= stake;
+                    boolean hit = bootstrap ? hits[b] : random.nextDouble() < probabilities[b];
+                    if (hit) {
+                        bankroll += stake * payoutOdds[b];
+                    }
+                }
+                histogram[s * BINS + bin(bankroll / startBankroll)]++;
+            }
+            sum += bankroll;
+            if (broke)
+                ruined++;
+            if (bankroll > startBankroll)
+                profitable++;
+        }
+        chunkSums[chunk] = sum;
+        chunkRuined[chunk] = ruined;
+        chunkProfitable[chunk] = profitable;
+    }
+
+    private static int chunkPaths(int paths, int chunk) {
+        return paths / CHUNKS + (chunk < paths % CHUNKS ? 1 : 0);
+    }
+
+    // Bin 0 holds everything at or below 2^-LOG2_RANGE of the start, including ruin; the last bin is open-ended.
+    private static int bin(double ratio) {
+        if (ratio <= 0)
+            return 0;
+        double key = pseudoLog2(ratio) + LOG2_RANGE;
+        if (key <= 0)
+            return 0;
+        return Math.min(BINS - 1, 1 + (int) (key / BIN_WIDTH));
+    }
+
+    private static double binValue(int bin, double startBankroll) {
+        if (bin == 0)
+            return 0;
+        double key = (bin - 0.5) * BIN_WIDTH - LOG2_RANGE;
+        return startBankroll * inversePseudoLog2(key);
+    }
+
+    private static double percentile(int[] histogram, int step, int paths, double p, double startBankroll) {
+        long target = (long) Math.ceil(p * paths);
+        long seen = 0;
+        int offset = step * BINS;
+        for (int bin = 0; bin < BINS; bin++) {
+            seen += histogram[offset + bin];
+            if (seen >= target && seen > 0)
+                return binValue(bin, startBankroll);
+        }
+        return binValue(BINS - 1, startBankroll);
+    }
+
+    // Exponent plus linear mantissa: monotonic, exactly invertible and free of Math.log.
+    static double pseudoLog2(double value) {
+        int exponent = Math.getExponent(value);
+        return exponent + (Math.scalb(value, -exponent) - 1);
+    }
+
+    static double inversePseudoLog2(double key) {
+        int exponent = (int) Math.floor(key);
+        return Math.scalb(1 + (key - exponent), exponent);
+    }
+}
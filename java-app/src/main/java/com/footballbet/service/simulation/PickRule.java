@@ -0,0 +1,26 @@
+package com.footballbet.service.simulation;
+
+public enum PickRule {
+    FAVORITE("정배"),
+    UNDERDOG("역배"),
+    DRAW("무승부");
+
+    private final String description;
+
+    PickRule(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static PickRule from(String text) {
+        for (PickRule rule : values()) {
+            if (rule.description.equals(text) || rule.name().equalsIgnoreCase(text)) {
+                return rule;
+            }
+        }
+        throw new IllegalArgumentException("Unknown pick rule: " + text);
+    }
+}
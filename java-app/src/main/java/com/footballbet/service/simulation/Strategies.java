@@ -0,0 +1,53 @@
+package com.footballbet.service.simulation;
+
+import com.footballbet.model.MatchType;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Strategies {
+    private static final double[][] ODDS_BANDS = {
+            { 1.0, 1.5 }, { 1.5, 2.0 }, { 2.0, 2.5 }, { 2.5, 3.5 }, { 3.5, 5.0 }, { 5.0, Double.POSITIVE_INFINITY },
+            { 0, Double.POSITIVE_INFINITY }
+    };
+    private static final MatchType[][] TYPE_GROUPS = {
+            {}, { MatchType.GENERAL }, { MatchType.HANDICAP }
+    };
+
+    private Strategies() {
+    }
+
+    // Every pick rule crossed with the type groups and odds bands above, optionally per league.
+    public static List<Strategy> grid(List<String> leagues) {
+        List<String> leagueOptions = new ArrayList<>();
+        leagueOptions.add(null);
+        leagueOptions.addAll(leagues);
+
+        List<Strategy> strategies = new ArrayList<>();
+        for (PickRule pick : PickRule.values()) {
+            for (MatchType[] types : TYPE_GROUPS) {
+                for (double[] band : ODDS_BANDS) {
+                    for (String league : leagueOptions) {
+                        Strategy strategy = Strategy.of(name(pick, types, band, league), pick)
+                                .withTypes(types)
+                                .withOddsBand(band[0], band[1]);
+                        strategies.add(league == null ? strategy : strategy.withLeagues(league));
+                    }
+                }
+            }
+        }
+        return strategies;
+    }
+
+    private static String name(PickRule pick, MatchType[] types, double[] band, String league) {
+        StringBuilder sb = new StringBuilder(pick.name());
+        sb.append(types.length == 0 ? " ALL" : " " + types[0].name());
+        if (band[0] > 0 || band[1] != Double.POSITIVE_INFINITY) {
+            sb.append(" ").append(band[0]).append("-")
+                    .append(band[1] == Double.POSITIVE_INFINITY ? "" : String.valueOf(band[1]));
+        }
+        if (league != null) {
+            sb.append(" ").append(league);
+        }
+        return sb.toString();
+    }
+}
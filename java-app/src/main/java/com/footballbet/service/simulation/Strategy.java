@@ -0,0 +1,55 @@
+package com.footballbet.service.simulation;
+
+import com.footballbet.model.MatchType;
+import java.util.Set;
+
+// typeMask holds one bit per MatchType ordinal (0 = any type); leagues is empty for any league.
+// The odds band applies to the odd of the picked selection and is half-open, [minOdd, maxOdd), so adjacent
+// bands never both take an odd that sits on their shared edge.
+public record Strategy(String name, PickRule pick, int typeMask, Set<String> leagues, double minOdd, double maxOdd,
+        double stake) {
+
+    public static final double DEFAULT_STAKE = 1.0;
+
+    public Strategy {
+        leagues = leagues == null ? Set.of() : Set.copyOf(leagues);
+        if (minOdd > maxOdd) {
+            throw new IllegalArgumentException("minOdd must not exceed maxOdd");
+        }
+        if (stake <= 0) {
+            throw new IllegalArgumentException("stake must be positive");
+        }
+    }
+
+    public static Strategy of(String name, PickRule pick) {
+        return new Strategy(name, pick, 0, Set.of(), 0, Double.POSITIVE_INFINITY, DEFAULT_STAKE);
+    }
+
+    public Strategy withTypes(MatchType... types) {
+        int mask = 0;
+        for (MatchType type : types) {
+            mask |= 1 << type.ordinal();
+        }
+        return new Strategy(name, pick, mask, leagues, minOdd, maxOdd, stake);
+    }
+
+    public Strategy withLeagues(String... leagues) {
+        return new Strategy(name, pick, typeMask, Set.of(leagues), minOdd, maxOdd, stake);
+    }
+
+    public Strategy withOddsBand(double minOdd, double maxOdd) {
+        return new Strategy(name, pick, typeMask, leagues, minOdd, maxOdd, stake);
+    }
+
+    public Strategy withStake(double stake) {
+        return new Strategy(name, pick, typeMask, leagues, minOdd, maxOdd, stake);
+    }
+
+    public boolean acceptsOdd(double odd) {
+        return odd >= minOdd && odd < maxOdd;
+    }
+
+    public boolean acceptsType(byte typeOrdinal) {
+        return typeMask == 0 || (typeOrdinal >= 0 && (typeMask & (1 << typeOrdinal)) != 0);
+    }
+}
@@ -0,0 +1,20 @@
+package com.footballbet.service.simulation;
+
+// Bets of round r are the index range [roundStarts[r], roundStarts[r + 1]).
+public record StrategyBets(
+        Strategy strategy,
+        double startBankroll,
+        int[] rounds,
+        int[] roundStarts,
+        double[] payoutOdds,
+        double[] impliedProbabilities,
+        boolean[] hits) {
+
+    public int roundCount() {
+        return rounds.length;
+    }
+
+    public int betCount() {
+        return payoutOdds.length;
+    }
+}
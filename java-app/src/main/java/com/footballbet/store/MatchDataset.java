@@ -0,0 +1,47 @@
+package com.footballbet.store;
+
+import com.footballbet.model.Match;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class MatchDataset {
+    private final AtomicReference<Snapshot> current;
+    private final List<Consumer<List<Match>>> listeners;
+
+    public MatchDataset() {
+        this.current = new AtomicReference<>(new Snapshot(MatchTable.from(List.of()), 0));
+        this.listeners = new CopyOnWriteArrayList<>();
+    }
+
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    public MatchTable table() {
+        return current.get().table();
+    }
+
+    public long version() {
+        return current.get().version();
+    }
+
+    public void publish(MatchTable table, List<Match> changed) {
+        current.getAndUpdate(previous -> new Snapshot(table, previous.version() + 1));
+        for (Consumer<List<Match>> listener : listeners) {
+            try {
+                listener.accept(changed);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public void addListener(Consumer<List<Match>> listener) {
+        listeners.add(listener);
+    }
+
+    public record Snapshot(MatchTable table, long version) {
+    }
+}
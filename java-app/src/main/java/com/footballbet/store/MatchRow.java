@@ -0,0 +1,72 @@
+package com.footballbet.store;
+
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.model.Score;
+import java.time.LocalDateTime;
+
+public class MatchRow {
+    private final MatchTable table;
+    private final int index;
+
+    MatchRow(MatchTable table, int index) {
+        this.table = table;
+        this.index = index;
+    }
+
+    public int getRound() {
+        return table.round(index);
+    }
+
+    public int getMatchNo() {
+        return table.matchNo(index);
+    }
+
+    public LocalDateTime getDateTime() {
+        return table.dateTime(index);
+    }
+
+    public String getLeague() {
+        return table.league(index);
+    }
+
+    public String getHome() {
+        return table.home(index);
+    }
+
+    public String getAway() {
+        return table.away(index);
+    }
+
+    public MatchType getType() {
+        return table.type(index);
+    }
+
+    public Double getWinOdd() {
+        return boxed(table.winOdd(index));
+    }
+
+    public Double getDrawOdd() {
+        return boxed(table.drawOdd(index));
+    }
+
+    public Double getLoseOdd() {
+        return boxed(table.loseOdd(index));
+    }
+
+    public Score getScore() {
+        return table.score(index);
+    }
+
+    public Result getResult() {
+        return table.result(index);
+    }
+
+    public Double getResultOdd() {
+        return boxed(table.resultOdd(index));
+    }
+
+    private static Double boxed(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
@@ -0,0 +1,236 @@
+package com.footballbet.store;
+
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.model.Score;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class MatchTable {
+    public static final long NO_DATE_TIME = Long.MIN_VALUE;
+    public static final byte NO_VALUE = -1;
+
+    private static final MatchType[] TYPES = MatchType.values();
+    private static final Result[] RESULTS = Result.values();
+    private static final Comparator<Match> ROUND_ORDER = Comparator.comparingInt(Match::getRound)
+            .thenComparingInt(Match::getMatchNo);
+
+    private final int size;
+    private final int[] round;
+    private final int[] matchNo;
+    private final long[] dateTime;
+    private final int[] league;
+    private final int[] home;
+    private final int[] away;
+    private final byte[] type;
+    private final double[] winOdd;
+    private final double[] drawOdd;
+    private final double[] loseOdd;
+    private final short[] scoreHome;
+    private final short[] scoreAway;
+    private final byte[] result;
+    private final double[] resultOdd;
+    private final StringDictionary leagues;
+    private final StringDictionary teams;
+
+    MatchTable(int size, int[] round, int[] matchNo, long[] dateTime, int[] league, int[] home, int[] away,
+            byte[] type, double[] winOdd, double[] drawOdd, double[] loseOdd, short[] scoreHome, short[] scoreAway,
+            byte[] result, double[] resultOdd, StringDictionary leagues, StringDictionary teams) {
+        this.size = size;
+        this.round = round;
+        this.matchNo = matchNo;
+        this.dateTime = dateTime;
+        this.league = league;
+        this.home = home;
+        this.away = away;
+        this.type = type;
+        this.winOdd = winOdd;
+        this.drawOdd = drawOdd;
+        this.loseOdd = loseOdd;
+        this.scoreHome = scoreHome;
+        this.scoreAway = scoreAway;
+        this.result = result;
+        this.resultOdd = resultOdd;
+        this.leagues = leagues;
+        this.teams = teams;
+    }
+
+    public static MatchTable from(List<Match> matches) {
+        MatchTableBuilder builder = new MatchTableBuilder(matches.size());
+        for (Match match : matches) {
+            builder.add(match);
+        }
+        return builder.build();
+    }
+
+    // Copy of this round-ordered table with the changed rows replaced in place and new rows merged in order.
+    // Unchanged rows are copied column by column without being decoded, so an upsert costs one pass over the
+    // primitive arrays plus a sort of the change set. A key repeated in the change set keeps its last row.
+    public MatchTable merge(List<Match> changed) {
+        List<Match> updates = new ArrayList<>(changed);
+        updates.sort(ROUND_ORDER);
+        MatchTableBuilder builder = new MatchTableBuilder(size + updates.size(), new StringDictionary(leagues),
+                new StringDictionary(teams));
+        int i = 0;
+        int u = 0;
+        while (i < size || u < updates.size()) {
+            if (u == updates.size()) {
+                builder.copy(this, i++);
+                continue;
+            }
+            Match update = updates.get(u);
+            if (u + 1 < updates.size() && ROUND_ORDER.compare(update, updates.get(u + 1)) == 0) {
+                u++;
+                continue;
+            }
+            int order = i == size ? 1 : compare(round[i], matchNo[i], update.getRound(), update.getMatchNo());
+            if (order < 0) {
+                builder.copy(this, i++);
+            } else {
+                builder.add(update);
+                u++;
+                if (order == 0)
+                    i++;
+            }
+        }
+        return builder.build();
+    }
+
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return dateTime == null ? NO_DATE_TIME : dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    public static LocalDateTime fromEpochMinute(long epochMinute) {
+        return epochMinute == NO_DATE_TIME ? null : LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public MatchRow row(int index) {
+        return new MatchRow(this, index);
+    }
+
+    public Match toMatch(int index) {
+        return new Match(round[index], matchNo[index], dateTime(index), league(index), home(index), away(index),
+                type(index), boxed(winOdd[index]), boxed(drawOdd[index]), boxed(loseOdd[index]), score(index),
+                result(index), boxed(resultOdd[index]));
+    }
+
+    public int round(int index) {
+        return round[index];
+    }
+
+    public int matchNo(int index) {
+        return matchNo[index];
+    }
+
+    public long dateTimeMinute(int index) {
+        return dateTime[index];
+    }
+
+    public LocalDateTime dateTime(int index) {
+        return fromEpochMinute(dateTime[index]);
+    }
+
+    public int leagueId(int index) {
+        return league[index];
+    }
+
+    public String league(int index) {
+        return leagues.get(league[index]);
+    }
+
+    public int homeId(int index) {
+        return home[index];
+    }
+
+    public String home(int index) {
+        return teams.get(home[index]);
+    }
+
+    public int awayId(int index) {
+        return away[index];
+    }
+
+    public String away(int index) {
+        return teams.get(away[index]);
+    }
+
+    public byte typeOrdinal(int index) {
+        return type[index];
+    }
+
+    public MatchType type(int index) {
+        return type[index] == NO_VALUE ? null : TYPES[type[index]];
+    }
+
+    public double winOdd(int index) {
+        return winOdd[index];
+    }
+
+    public double drawOdd(int index) {
+        return drawOdd[index];
+    }
+
+    public double loseOdd(int index) {
+        return loseOdd[index];
+    }
+
+    public int scoreHome(int index) {
+        return scoreHome[index];
+    }
+
+    public int scoreAway(int index) {
+        return scoreAway[index];
+    }
+
+    public Score score(int index) {
+        return scoreHome[index] == NO_VALUE ? null : new Score(scoreHome[index], scoreAway[index]);
+    }
+
+    public byte resultOrdinal(int index) {
+        return result[index];
+    }
+
+    public Result result(int index) {
+        return result[index] == NO_VALUE ? null : RESULTS[result[index]];
+    }
+
+    public double resultOdd(int index) {
+        return resultOdd[index];
+    }
+
+    public StringDictionary leagues() {
+        return leagues;
+    }
+
+    public StringDictionary teams() {
+        return teams;
+    }
+
+    public long estimatedBytes() {
+        long bytes = MemoryFootprint.OBJECT_HEADER + 16 * MemoryFootprint.REFERENCE + 4;
+        bytes += 5 * MemoryFootprint.arrayBytes(round.length, Integer.BYTES);
+        bytes += MemoryFootprint.arrayBytes(dateTime.length, Long.BYTES);
+        bytes += 4 * MemoryFootprint.arrayBytes(winOdd.length, Double.BYTES);
+        bytes += 2 * MemoryFootprint.arrayBytes(type.length, Byte.BYTES);
+        bytes += 2 * MemoryFootprint.arrayBytes(scoreHome.length, Short.BYTES);
+        bytes += MemoryFootprint.dictionaryBytes(leagues) + MemoryFootprint.dictionaryBytes(teams);
+        return MemoryFootprint.align(bytes);
+    }
+
+    private static int compare(int round, int matchNo, int otherRound, int otherMatchNo) {
+        int order = Integer.compare(round, otherRound);
+        return order != 0 ? order : Integer.compare(matchNo, otherMatchNo);
+    }
+
+    private static Double boxed(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
@@ -0,0 +1,152 @@
+package com.footballbet.store;
+
+import com.footballbet.model.Match;
+import com.footballbet.model.Score;
+import java.util.Arrays;
+
+public class MatchTableBuilder {
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private int size;
+    private int[] round;
+    private int[] matchNo;
+    private long[] dateTime;
+    private int[] league;
+    private int[] home;
+    private int[] away;
+    private byte[] type;
+    private double[] winOdd;
+    private double[] drawOdd;
+    private double[] loseOdd;
+    private short[] scoreHome;
+    private short[] scoreAway;
+    private byte[] result;
+    private double[] resultOdd;
+    private final StringDictionary leagues;
+    private final StringDictionary teams;
+
+    public MatchTableBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MatchTableBuilder(int capacity) {
+        this(capacity, new StringDictionary(), new StringDictionary());
+    }
+
+    // Starts from copies of an existing table's dictionaries, so rows copied from that table keep their ids.
+    MatchTableBuilder(int capacity, StringDictionary leagues, StringDictionary teams) {
+        int initial = Math.max(capacity, 16);
+        this.round = new int[initial];
+        this.matchNo = new int[initial];
+        this.dateTime = new long[initial];
+        this.league = new int[initial];
+        this.home = new int[initial];
+        this.away = new int[initial];
+        this.type = new byte[initial];
+        this.winOdd = new double[initial];
+        this.drawOdd = new double[initial];
+        this.loseOdd = new double[initial];
+        this.scoreHome = new short[initial];
+        this.scoreAway = new short[initial];
+        this.result = new byte[initial];
+        this.resultOdd = new double[initial];
+        this.leagues = leagues;
+        this.teams = teams;
+    }
+
+    public MatchTableBuilder add(Match match) {
+        ensureCapacity(size + 1);
+        int i = size++;
+        round[i] = match.getRound();
+        matchNo[i] = match.getMatchNo();
+        dateTime[i] = MatchTable.toEpochMinute(match.getDateTime());
+        league[i] = leagues.idOf(match.getLeague());
+        home[i] = teams.idOf(match.getHome());
+        away[i] = teams.idOf(match.getAway());
+        type[i] = match.getType() == null ? MatchTable.NO_VALUE : (byte) match.getType().ordinal();
+        winOdd[i] = unboxed(match.getWinOdd());
+        drawOdd[i] = unboxed(match.getDrawOdd());
+        loseOdd[i] = unboxed(match.getLoseOdd());
+        Score score = match.getScore();
+        scoreHome[i] = score == null ? MatchTable.NO_VALUE : goals(score.home());
+        scoreAway[i] = score == null ? MatchTable.NO_VALUE : goals(score.away());
+        result[i] = match.getResult() == null ? MatchTable.NO_VALUE : (byte) match.getResult().ordinal();
+        resultOdd[i] = unboxed(match.getResultOdd());
+        return this;
+    }
+
+    // Parsed scores stop at 999 goals; anything outside a short, or negative (NO_VALUE), is a caller bug.
+    private static short goals(int goals) {
+        if (goals < 0 || goals > Short.MAX_VALUE)
+            throw new IllegalArgumentException("Score out of range: " + goals);
+        return (short) goals;
+    }
+
+    MatchTableBuilder copy(MatchTable source, int index) {
+        ensureCapacity(size + 1);
+        int i = size++;
+        round[i] = source.round(index);
+        matchNo[i] = source.matchNo(index);
+        dateTime[i] = source.dateTimeMinute(index);
+        league[i] = source.leagueId(index);
+        home[i] = source.homeId(index);
+        away[i] = source.awayId(index);
+        type[i] = source.typeOrdinal(index);
+        winOdd[i] = source.winOdd(index);
+        drawOdd[i] = source.drawOdd(index);
+        loseOdd[i] = source.loseOdd(index);
+        scoreHome[i] = (short) source.scoreHome(index);
+        scoreAway[i] = (short) source.scoreAway(index);
+        result[i] = source.resultOrdinal(index);
+        resultOdd[i] = source.resultOdd(index);
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public MatchTable build() {
+        return new MatchTable(size,
+                Arrays.copyOf(round, size),
+                Arrays.copyOf(matchNo, size),
+                Arrays.copyOf(dateTime, size),
+                Arrays.copyOf(league, size),
+                Arrays.copyOf(home, size),
+                Arrays.copyOf(away, size),
+                Arrays.copyOf(type, size),
+                Arrays.copyOf(winOdd, size),
+                Arrays.copyOf(drawOdd, size),
+                Arrays.copyOf(loseOdd, size),
+                Arrays.copyOf(scoreHome, size),
+                Arrays.copyOf(scoreAway, size),
+                Arrays.copyOf(result, size),
+                Arrays.copyOf(resultOdd, size),
+                new StringDictionary(leagues),
+                new StringDictionary(teams));
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= round.length)
+            return;
+        int capacity = Math.max(required, round.length + (round.length >> 1));
+        round = Arrays.copyOf(round, capacity);
+        matchNo = Arrays.copyOf(matchNo, capacity);
+        dateTime = Arrays.copyOf(dateTime, capacity);
+        league = Arrays.copyOf(league, capacity);
+        home = Arrays.copyOf(home, capacity);
+        away = Arrays.copyOf(away, capacity);
+        type = Arrays.copyOf(type, capacity);
+        winOdd = Arrays.copyOf(winOdd, capacity);
+        drawOdd = Arrays.copyOf(drawOdd, capacity);
+        loseOdd = Arrays.copyOf(loseOdd, capacity);
+        scoreHome = Arrays.copyOf(scoreHome, capacity);
+        scoreAway = Arrays.copyOf(scoreAway, capacity);
+        result = Arrays.copyOf(result, capacity);
+        resultOdd = Arrays.copyOf(resultOdd, capacity);
+    }
+
+    private static double unboxed(Double value) {
+        return value == null ? Double.NaN : value;
+    }
+}
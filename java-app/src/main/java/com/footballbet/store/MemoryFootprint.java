@@ -0,0 +1,98 @@
+package com.footballbet.store;
+
+import com.footballbet.model.Match;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+// Shallow-size estimates for a 64-bit JVM with compressed oops and 8-byte alignment.
+public class MemoryFootprint {
+    static final int OBJECT_HEADER = 12;
+    static final int ARRAY_HEADER = 16;
+    static final int REFERENCE = 4;
+
+    private static final long MATCH_BYTES = align(OBJECT_HEADER + 2 * Integer.BYTES + 11 * REFERENCE);
+    private static final long OPTIONAL_BYTES = align(OBJECT_HEADER + REFERENCE);
+    private static final long DOUBLE_BYTES = align(OBJECT_HEADER + Double.BYTES);
+    private static final long SCORE_BYTES = align(OBJECT_HEADER + 2 * Integer.BYTES);
+    private static final long LOCAL_DATE_TIME_BYTES = align(OBJECT_HEADER + 2 * REFERENCE)
+            + align(OBJECT_HEADER + Integer.BYTES + 2 * Short.BYTES)
+            + align(OBJECT_HEADER + 3 + Integer.BYTES);
+    private static final long STRING_BYTES = align(OBJECT_HEADER + REFERENCE + Integer.BYTES + 2);
+    private static final long MAP_ENTRY_BYTES = align(OBJECT_HEADER + Integer.BYTES + 3 * REFERENCE);
+    private static final long INTEGER_BYTES = align(OBJECT_HEADER + Integer.BYTES);
+
+    private MemoryFootprint() {
+    }
+
+    public static long estimate(List<Match> matches) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = align(OBJECT_HEADER + 2 * Integer.BYTES + REFERENCE)
+                + arrayBytes(matches.size(), REFERENCE);
+        for (Match match : matches) {
+            bytes += MATCH_BYTES + 6 * OPTIONAL_BYTES;
+            if (match.getDateTime() != null && seen.add(match.getDateTime()))
+                bytes += LOCAL_DATE_TIME_BYTES;
+            bytes += stringBytes(match.getLeague(), seen);
+            bytes += stringBytes(match.getHome(), seen);
+            bytes += stringBytes(match.getAway(), seen);
+            bytes += boxedBytes(match.getWinOdd(), seen);
+            bytes += boxedBytes(match.getDrawOdd(), seen);
+            bytes += boxedBytes(match.getLoseOdd(), seen);
+            bytes += boxedBytes(match.getResultOdd(), seen);
+            if (match.getScore() != null && seen.add(match.getScore()))
+                bytes += SCORE_BYTES;
+        }
+        return bytes;
+    }
+
+    public static String report(List<Match> matches, MatchTable table) {
+        long listBytes = estimate(matches);
+        long tableBytes = table.estimatedBytes();
+        return String.format(
+                "Memory footprint (%d rows): List<Match> ~%,d bytes (%.1f B/row), MatchTable ~%,d bytes (%.1f B/row), %.1fx smaller",
+                matches.size(),
+                listBytes, perRow(listBytes, matches.size()),
+                tableBytes, perRow(tableBytes, table.size()),
+                tableBytes == 0 ? 0.0 : (double) listBytes / tableBytes);
+    }
+
+    static long dictionaryBytes(StringDictionary dictionary) {
+        int size = dictionary.size();
+        int buckets = Integer.highestOneBit(Math.max(1, size * 4 / 3)) << 1;
+        long bytes = align(OBJECT_HEADER + 2 * REFERENCE) * 2
+                + arrayBytes(buckets, REFERENCE)
+                + arrayBytes(size, REFERENCE)
+                + size * (MAP_ENTRY_BYTES + INTEGER_BYTES);
+        for (String value : dictionary.values()) {
+            bytes += stringBytes(value);
+        }
+        return bytes;
+    }
+
+    static long arrayBytes(int length, int elementBytes) {
+        return align(ARRAY_HEADER + (long) length * elementBytes);
+    }
+
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static long stringBytes(String value, Set<Object> seen) {
+        return value != null && seen.add(value) ? stringBytes(value) : 0;
+    }
+
+    private static long stringBytes(String value) {
+        boolean latin1 = value.chars().allMatch(c -> c < 256);
+        return STRING_BYTES + arrayBytes(value.length() * (latin1 ? 1 : 2), 1);
+    }
+
+    private static long boxedBytes(Double value, Set<Object> seen) {
+        return value != null && seen.add(value) ? DOUBLE_BYTES : 0;
+    }
+
+    private static double perRow(long bytes, int rows) {
+        return rows == 0 ? 0.0 : (double) bytes / rows;
+    }
+}
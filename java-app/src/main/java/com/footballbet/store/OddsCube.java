@@ -0,0 +1,285 @@
+package com.footballbet.store;
+
+import com.footballbet.dto.odds.OddsBasis;
+import com.footballbet.dto.odds.OddsCubeCell;
+import com.footballbet.dto.odds.OddsCubeDimension;
+import com.footballbet.dto.odds.OddsCubeQuery;
+import com.footballbet.dto.odds.OddsCubeSlice;
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.repository.InMemoryMatchRepository;
+import com.footballbet.util.LongIntHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Match counts and odds sums over odds bucket x MatchType x league x outcome, in flat primitive arrays laid
+// out league-major so a new league only appends a block. Each match remembers the cell it was counted in,
+// so a republished match moves between cells without a rebuild.
+public class OddsCube {
+    public static final double MIN_ODD = 1.0;
+    public static final double MAX_ODD = 20.0;
+    public static final double MIN_WIDTH = 0.01;
+    public static final double MAX_WIDTH = 5.0;
+    public static final String PENDING_OUTCOME = "PENDING";
+
+    private static final AtomicLong GENERATIONS = new AtomicLong();
+
+    private static final MatchType[] TYPES = MatchType.values();
+    private static final Result[] RESULTS = Result.values();
+    private static final int OUTCOMES = RESULTS.length + 1;
+    private static final int PENDING = RESULTS.length;
+    private static final int NO_CELL = -1;
+    private static final int NO_SLOT = -1;
+    private static final String NO_LEAGUE = "";
+
+    private final double width;
+    private final OddsBasis basis;
+    private final int buckets;
+    private final int leagueBlock;
+    private final StringDictionary leagues;
+    private final LongIntHashMap slots;
+    private final ReentrantReadWriteLock lock;
+    private int[] counts;
+    private double[] oddSums;
+    private double[] resultOddSums;
+    private int[] slotCell;
+    private double[] slotOdd;
+    private double[] slotResultOdd;
+    private int slotCount;
+    private final long generation;
+    private long version;
+
+    public OddsCube(double width, OddsBasis basis) {
+        if (!(width >= MIN_WIDTH && width <= MAX_WIDTH)) {
+            throw new IllegalArgumentException("width must be between " + MIN_WIDTH + " and " + MAX_WIDTH);
+        }
+        this.width = width;
+        this.basis = basis;
+        this.buckets = (int) Math.ceil((MAX_ODD - MIN_ODD) / width - 1e-9) + 1;
+        this.leagueBlock = TYPES.length * buckets * OUTCOMES;
+        this.leagues = new StringDictionary();
+        this.slots = new LongIntHashMap(1024, NO_SLOT);
+        this.lock = new ReentrantReadWriteLock();
+        this.counts = new int[0];
+        this.oddSums = new double[0];
+        this.resultOddSums = new double[0];
+        this.slotCell = new int[1024];
+        this.slotOdd = new double[1024];
+        this.slotResultOdd = new double[1024];
+        this.generation = GENERATIONS.incrementAndGet();
+    }
+
+    public double width() {
+        return width;
+    }
+
+    public OddsBasis basis() {
+        return basis;
+    }
+
+    // Unique per cube instance; versions restart for a cube rebuilt after eviction, generations do not.
+    public long generation() {
+        return generation;
+    }
+
+    public long version() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void apply(MatchTable table) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < table.size(); i++) {
+                put(InMemoryMatchRepository.key(table.round(i), table.matchNo(i)), table.league(i),
+                        table.typeOrdinal(i), basisOdd(table.winOdd(i), table.drawOdd(i), table.loseOdd(i)),
+                        table.resultOrdinal(i), table.resultOdd(i));
+            }
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void apply(List<Match> changed) {
+        lock.writeLock().lock();
+        try {
+            for (Match match : changed) {
+                put(InMemoryMatchRepository.key(match.getRound(), match.getMatchNo()), match.getLeague(),
+                        match.getType() == null ? MatchTable.NO_VALUE : (byte) match.getType().ordinal(),
+                        basisOdd(unboxed(match.getWinOdd()), unboxed(match.getDrawOdd()),
+                                unboxed(match.getLoseOdd())),
+                        match.getResult() == null ? MatchTable.NO_VALUE : (byte) match.getResult().ordinal(),
+                        unboxed(match.getResultOdd()));
+            }
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public OddsCubeSlice slice(OddsCubeQuery query) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            int leagueCount = leagues.size();
+            boolean[] typeAllowed = new boolean[TYPES.length];
+            for (int t = 0; t < TYPES.length; t++) {
+                typeAllowed[t] = query.types().isEmpty() || query.types().contains(TYPES[t]);
+            }
+            boolean[] leagueAllowed = new boolean[leagueCount];
+            for (int l = 0; l < leagueCount; l++) {
+                leagueAllowed[l] = query.leagues().isEmpty() || query.leagues().contains(leagues.get(l));
+            }
+            boolean[] outcomeAllowed = new boolean[OUTCOMES];
+            for (int o = 0; o < OUTCOMES; o++) {
+                outcomeAllowed[o] = query.outcomes().isEmpty() || query.outcomes().contains(outcomeName(o));
+            }
+            int bucketFrom = Double.isNaN(query.minOdd()) ? 0 : bucket(query.minOdd());
+            int bucketTo = Double.isNaN(query.maxOdd()) ? buckets - 1 : bucket(query.maxOdd());
+
+            boolean byBucket = query.groupBy().contains(OddsCubeDimension.BUCKET);
+            boolean byType = query.groupBy().contains(OddsCubeDimension.TYPE);
+            boolean byLeague = query.groupBy().contains(OddsCubeDimension.LEAGUE);
+            boolean byOutcome = query.groupBy().contains(OddsCubeDimension.OUTCOME);
+            int outcomeStride = 1;
+            int bucketStride = outcomeStride * (byOutcome ? OUTCOMES : 1);
+            int typeStride = bucketStride * (byBucket ? buckets : 1);
+            int leagueStride = typeStride * (byType ? TYPES.length : 1);
+            int groups = leagueStride * (byLeague ? Math.max(1, leagueCount) : 1);
+            int[] groupCounts = new int[groups];
+            double[] groupOddSums = new double[groups];
+            double[] groupResultOddSums = new double[groups];
+
+            int total = 0;
+            for (int l = 0; l < leagueCount; l++) {
+                if (!leagueAllowed[l])
+                    continue;
+                for (int t = 0; t < TYPES.length; t++) {
+                    if (!typeAllowed[t])
+                        continue;
+                    for (int b = bucketFrom; b <= bucketTo; b++) {
+                        int base = cell(l, t, b, 0);
+                        for (int o = 0; o < OUTCOMES; o++) {
+                            int count = counts[base + o];
+                            if (count == 0 || !outcomeAllowed[o])
+                                continue;
+                            int g = (byLeague ? l * leagueStride : 0) + (byType ? t * typeStride : 0)
+                                    + (byBucket ? b * bucketStride : 0) + (byOutcome ? o : 0);
+                            groupCounts[g] += count;
+                            groupOddSums[g] += oddSums[base + o];
+                            groupResultOddSums[g] += resultOddSums[base + o];
+                            total += count;
+                        }
+                    }
+                }
+            }
+
+            List<OddsCubeCell> cells = new ArrayList<>();
+            for (int g = 0; g < groups; g++) {
+                if (groupCounts[g] == 0)
+                    continue;
+                int b = (g / bucketStride) % (byBucket ? buckets : 1);
+                int t = (g / typeStride) % (byType ? TYPES.length : 1);
+                int l = g / leagueStride;
+                int o = g % (byOutcome ? OUTCOMES : 1);
+                cells.add(new OddsCubeCell(
+                        byBucket ? bucketLower(b) : null,
+                        byBucket && b < buckets - 1 ? bucketLower(b + 1) : null,
+                        byType ? TYPES[t].name() : null,
+                        byLeague ? leagues.get(l) : null,
+                        byOutcome ? outcomeName(o) : null,
+                        groupCounts[g],
+                        groupOddSums[g],
+                        groupResultOddSums[g]));
+            }
+            return new OddsCubeSlice(version, width, basis, total, cells, (System.nanoTime() - start) / 1_000);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(long key, String league, byte type, double odd, byte result, double resultOdd) {
+        int slot = slots.get(key);
+        if (slot == NO_SLOT) {
+            slot = slotCount++;
+            if (slot == slotCell.length) {
+                slotCell = Arrays.copyOf(slotCell, slot * 2);
+                slotOdd = Arrays.copyOf(slotOdd, slot * 2);
+                slotResultOdd = Arrays.copyOf(slotResultOdd, slot * 2);
+            }
+            slots.put(key, slot);
+        } else if (slotCell[slot] != NO_CELL) {
+            int previous = slotCell[slot];
+            counts[previous]--;
+            oddSums[previous] -= slotOdd[slot];
+            resultOddSums[previous] -= slotResultOdd[slot];
+        }
+
+        if (Double.isNaN(odd)) {
+            slotCell[slot] = NO_CELL;
+            return;
+        }
+        int leagueId = leagues.idOf(league == null ? NO_LEAGUE : league);
+        ensureLeagues(leagueId + 1);
+        int outcome = result == MatchTable.NO_VALUE ? PENDING : result;
+        int cell = cell(leagueId, type == MatchTable.NO_VALUE ? MatchType.UNKNOWN.ordinal() : type, bucket(odd),
+                outcome);
+        double resultValue = Double.isNaN(resultOdd) ? 0 : resultOdd;
+        counts[cell]++;
+        oddSums[cell] += odd;
+        resultOddSums[cell] += resultValue;
+        slotCell[slot] = cell;
+        slotOdd[slot] = odd;
+        slotResultOdd[slot] = resultValue;
+    }
+
+    private void ensureLeagues(int leagueCount) {
+        int required = leagueCount * leagueBlock;
+        if (counts.length >= required)
+            return;
+        int capacity = Math.max(required, counts.length + 4 * leagueBlock);
+        counts = Arrays.copyOf(counts, capacity);
+        oddSums = Arrays.copyOf(oddSums, capacity);
+        resultOddSums = Arrays.copyOf(resultOddSums, capacity);
+    }
+
+    private int cell(int league, int type, int bucket, int outcome) {
+        return ((league * TYPES.length + type) * buckets + bucket) * OUTCOMES + outcome;
+    }
+
+    private int bucket(double odd) {
+        if (odd <= MIN_ODD)
+            return 0;
+        return Math.min(buckets - 1, (int) ((odd - MIN_ODD) / width + 1e-9));
+    }
+
+    private double bucketLower(int bucket) {
+        return Math.round((MIN_ODD + bucket * width) * 1000) / 1000.0;
+    }
+
+    private double basisOdd(double winOdd, double drawOdd, double loseOdd) {
+        return switch (basis) {
+            case WIN -> winOdd;
+            case DRAW -> drawOdd;
+            case LOSE -> loseOdd;
+            case FAVORITE -> Double.isNaN(winOdd) || Double.isNaN(loseOdd) ? Double.NaN : Math.min(winOdd, loseOdd);
+        };
+    }
+
+    private static String outcomeName(int outcome) {
+        return outcome == PENDING ? PENDING_OUTCOME : RESULTS[outcome].name();
+    }
+
+    private static double unboxed(Double value) {
+        return value == null ? Double.NaN : value;
+    }
+}
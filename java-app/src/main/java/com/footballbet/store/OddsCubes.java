@@ -0,0 +1,64 @@
+package com.footballbet.store;
+
+import com.footballbet.dto.odds.OddsBasis;
+import com.footballbet.model.Match;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Cubes cached per (bucket width, basis), least recently used first out, and kept current from dataset publishes.
+// A new cube is seeded outside the monitor, so a slow build never holds up the listener; it is only registered
+// once the table it was seeded from is still the published one, and every later publish reaches it as a change list.
+public class OddsCubes {
+    private static final int MAX_CACHED = 16;
+
+    private final MatchDataset dataset;
+    private final Map<String, OddsCube> cubes;
+
+    public OddsCubes(MatchDataset dataset) {
+        this.dataset = dataset;
+        this.cubes = new LinkedHashMap<>(MAX_CACHED * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OddsCube> eldest) {
+                return size() > MAX_CACHED;
+            }
+        };
+        dataset.addListener(this::apply);
+    }
+
+    public OddsCube get(double width, OddsBasis basis) {
+        double rounded = Math.round(width * 100) / 100.0;
+        String key = basis.name() + ":" + rounded;
+        synchronized (this) {
+            OddsCube cube = cubes.get(key);
+            if (cube != null)
+                return cube;
+        }
+
+        OddsCube built = new OddsCube(rounded, basis);
+        MatchTable seed = dataset.table();
+        built.apply(seed);
+        while (true) {
+            synchronized (this) {
+                OddsCube cube = cubes.get(key);
+                if (cube != null)
+                    return cube;
+                MatchTable current = dataset.table();
+                if (current == seed) {
+                    cubes.put(key, built);
+                    return built;
+                }
+                seed = current;
+            }
+            // A publish landed during the build; tables only grow or replace rows, so applying the newer one
+            // brings the cube up to date.
+            built.apply(seed);
+        }
+    }
+
+    private synchronized void apply(List<Match> changed) {
+        for (OddsCube cube : cubes.values()) {
+            cube.apply(changed);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.footballbet.store;
+
+import com.footballbet.model.Result;
+import java.util.Arrays;
+
+// Per-round content hashes for one MatchTable, so a round range can be validated without re-reading rows.
+// Strings are hashed by value because dictionary ids are not stable across tables.
+public class RoundDigests {
+    private final long version;
+    private final int[] rounds;
+    private final long[] hashes;
+    private final boolean[] settled;
+
+    private RoundDigests(long version, int[] rounds, long[] hashes, boolean[] settled) {
+        this.version = version;
+        this.rounds = rounds;
+        this.hashes = hashes;
+        this.settled = settled;
+    }
+
+    // Expects rows in (round, matchNo) order, as published by MatchDataset.
+    public static RoundDigests of(MatchTable table, long version) {
+        int[] rounds = new int[16];
+        long[] hashes = new long[16];
+        boolean[] settled = new boolean[16];
+        int count = 0;
+        for (int i = 0; i < table.size(); i++) {
+            if (count == 0 || rounds[count - 1] != table.round(i)) {
+                if (count == rounds.length) {
+                    rounds = Arrays.copyOf(rounds, count * 2);
+                    hashes = Arrays.copyOf(hashes, count * 2);
+                    settled = Arrays.copyOf(settled, count * 2);
+                }
+                rounds[count] = table.round(i);
+                hashes[count] = mix(table.round(i));
+                settled[count] = true;
+                count++;
+            }
+            hashes[count - 1] = mix(hashes[count - 1] ^ rowHash(table, i));
+            byte result = table.resultOrdinal(i);
+            if (result == MatchTable.NO_VALUE || result == Result.UNKNOWN.ordinal()) {
+                settled[count - 1] = false;
+            }
+        }
+        return new RoundDigests(version, Arrays.copyOf(rounds, count), Arrays.copyOf(hashes, count),
+                Arrays.copyOf(settled, count));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public long digest(int roundFrom, int roundTo) {
+        long hash = 0x9E3779B97F4A7C15L;
+        for (int i = firstIndex(roundFrom); i < rounds.length && rounds[i] <= roundTo; i++) {
+            hash = mix(hash ^ hashes[i]);
+        }
+        return hash;
+    }
+
+    // True when the range holds at least one round and every row in it has a result.
+    public boolean isSettled(int roundFrom, int roundTo) {
+        int i = firstIndex(roundFrom);
+        if (i >= rounds.length || rounds[i] > roundTo)
+            return false;
+        for (; i < rounds.length && rounds[i] <= roundTo; i++) {
+            if (!settled[i])
+                return false;
+        }
+        return true;
+    }
+
+    private int firstIndex(int round) {
+        int index = Arrays.binarySearch(rounds, round);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static long rowHash(MatchTable table, int i) {
+        long h = mix(table.matchNo(i));
+        h = mix(h ^ table.dateTimeMinute(i));
+        h = mix(h ^ stringHash(table.league(i)));
+        h = mix(h ^ stringHash(table.home(i)));
+        h = mix(h ^ stringHash(table.away(i)));
+        h = mix(h ^ table.typeOrdinal(i));
+        h = mix(h ^ Double.doubleToLongBits(table.winOdd(i)));
+        h = mix(h ^ Double.doubleToLongBits(table.drawOdd(i)));
+        h = mix(h ^ Double.doubleToLongBits(table.loseOdd(i)));
+        h = mix(h ^ ((table.scoreHome(i) & 0xFFFF) << 16 | (table.scoreAway(i) & 0xFFFF)));
+        h = mix(h ^ table.resultOrdinal(i));
+        return mix(h ^ Double.doubleToLongBits(table.resultOdd(i)));
+    }
+
+    private static long stringHash(String value) {
+        return value == null ? 0 : value.hashCode();
+    }
+
+    // SplitMix64 finalizer.
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,345 @@
+package com.footballbet.store;
+
+import com.footballbet.dto.load.FileLoadResult;
+import com.footballbet.dto.load.LoadReport;
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.model.Score;
+import com.footballbet.service.alias.TeamAliasResolver;
+import com.footballbet.service.quality.DataQualityValidator;
+import com.footballbet.util.CsvLoader;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/*
+ * Snapshot layout (big-endian):
+ *   int magic, int version, long aliasFingerprint, int entryCount
+ *   entryCount x { string name, long size, long mtime, long offset, int length }
+ *   segments: int rowCount, int stringCount, stringCount x string, rowCount x row
+ *   string: unsigned short byteLength, UTF-8 bytes
+ *   row: int round, int matchNo, long epochMinute, int league, int home, int away, byte type,
+ *        double win, double draw, double lose, short scoreHome, short scoreAway, byte result, double resultOdd
+ */
+public class RoundSnapshotCache {
+    private static final int MAGIC = 0x46504253;
+    private static final int VERSION = 3;
+    private static final int HEADER_BYTES = 20;
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    private static final MatchType[] TYPES = MatchType.values();
+    private static final Result[] RESULTS = Result.values();
+
+    private final Path snapshotFile;
+    private final CsvLoader csvLoader;
+    private final DataQualityValidator validator;
+
+    public RoundSnapshotCache(Path snapshotFile, CsvLoader csvLoader, DataQualityValidator validator) {
+        this.snapshotFile = snapshotFile;
+        this.csvLoader = csvLoader;
+        this.validator = validator;
+    }
+
+    public static Path snapshotFileFor(File source) {
+        File absolute = source.getAbsoluteFile();
+        File parent = absolute.getParentFile() != null ? absolute.getParentFile() : absolute;
+        return new File(parent, absolute.getName() + SNAPSHOT_SUFFIX).toPath();
+    }
+
+    public LoadReport load(List<File> roundFiles) {
+        long start = System.nanoTime();
+        List<Match> allMatches = new ArrayList<>();
+        List<FileLoadResult> results = new ArrayList<>(roundFiles.size());
+        Map<String, ByteBuffer> segments = new LinkedHashMap<>();
+        Map<String, Entry> entries = new LinkedHashMap<>();
+
+        DataQualityValidator.Duplicates seen = new DataQualityValidator.Duplicates();
+        Snapshot snapshot = readSnapshot(roundFiles);
+        boolean dirty = false;
+        for (File file : roundFiles) {
+            long fileStart = System.nanoTime();
+            Entry current = new Entry(file.getName(), file.length(), file.lastModified(), 0, 0);
+            ByteBuffer segment = snapshot.reusable().get(file.getName());
+            List<Match> matches = new ArrayList<>();
+            try {
+                if (segment != null && decodeCached(segment, matches)) {
+                    segments.put(file.getName(), segment);
+                    results.add(FileLoadResult.cached(file.getName(), matches.size(), elapsedMillis(fileStart))
+                            .withQuality(validator.validate(file.getName(), matches, seen)));
+                } else {
+                    csvLoader.stream(file.getAbsolutePath(), matches::add);
+                    segments.put(file.getName(), ByteBuffer.wrap(encodeSegment(matches)));
+                    results.add(FileLoadResult.success(file.getName(), matches.size(), elapsedMillis(fileStart))
+                            .withQuality(validator.validate(file.getName(), matches, seen)));
+                    dirty = true;
+                }
+                entries.put(file.getName(), current);
+                allMatches.addAll(matches);
+            } catch (Exception e) {
+                // Not indexed, so the next start tries the file again; that alone does not rewrite the snapshot.
+                results.add(FileLoadResult.failure(file.getName(), elapsedMillis(fileStart),
+                        e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+            }
+        }
+
+        // Rounds that were indexed but are gone, changed into unreadable files, or no longer listed.
+        if (!entries.keySet().containsAll(snapshot.indexed()))
+            dirty = true;
+        if (dirty) {
+            try {
+                write(entries, segments);
+            } catch (IOException e) {
+                System.err.println("Snapshot " + snapshotFile + " not written: " + e.getMessage());
+            }
+        }
+        return new LoadReport(allMatches, results, elapsedMillis(start));
+    }
+
+    // Reusable segments are slices of the mapping and are decoded in place; a rewrite copies them from the mapping
+    // into a temporary file that replaces the snapshot by a move, so the mapped file itself is never modified.
+    // Anything unreadable is a cache miss, never a load failure.
+    private Snapshot readSnapshot(List<File> roundFiles) {
+        try (FileChannel channel = openSnapshot()) {
+            if (channel == null) {
+                return Snapshot.EMPTY;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Map<String, Entry> index = readIndex(buffer);
+            Map<String, ByteBuffer> reusable = new HashMap<>();
+            for (File file : roundFiles) {
+                Entry entry = index.get(file.getName());
+                if (entry != null && entry.size() == file.length() && entry.mtime() == file.lastModified()) {
+                    reusable.put(file.getName(), buffer.slice((int) entry.offset(), entry.length()));
+                }
+            }
+            return new Snapshot(index.keySet(), reusable);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Snapshot " + snapshotFile + " unreadable: " + e.getMessage());
+            return Snapshot.EMPTY;
+        }
+    }
+
+    private FileChannel openSnapshot() throws IOException {
+        if (!Files.isRegularFile(snapshotFile) || Files.size(snapshotFile) < HEADER_BYTES) {
+            return null;
+        }
+        return FileChannel.open(snapshotFile, StandardOpenOption.READ);
+    }
+
+    private Map<String, Entry> readIndex(ByteBuffer buffer) {
+        try {
+            // Rows hold names already resolved to canonical form, so snapshots written under other alias files are
+            // discarded as a whole rather than decoded with stale names.
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                    || buffer.getLong(8) != csvLoader.getNames().fingerprint()) {
+                return Map.of();
+            }
+            ByteBuffer in = buffer.duplicate().position(16);
+            int count = in.getInt();
+            Map<String, Entry> entries = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = readString(in);
+                Entry entry = new Entry(name, in.getLong(), in.getLong(), in.getLong(), in.getInt());
+                if (entry.offset() < 0 || entry.length() < 0 || entry.offset() + entry.length() > buffer.capacity()) {
+                    return Map.of();
+                }
+                entries.put(name, entry);
+            }
+            return entries;
+        } catch (RuntimeException e) {
+            // Truncated or corrupt index; the whole snapshot is rebuilt.
+            return Map.of();
+        }
+    }
+
+    private boolean decodeCached(ByteBuffer segment, List<Match> target) {
+        try {
+            decodeSegment(segment.duplicate(), target, csvLoader.getNames());
+            return true;
+        } catch (RuntimeException e) {
+            target.clear();
+            return false;
+        }
+    }
+
+    private void write(Map<String, Entry> entries, Map<String, ByteBuffer> segments) throws IOException {
+        long indexSize = HEADER_BYTES;
+        for (Entry entry : entries.values()) {
+            indexSize += 2 + entry.name().getBytes(StandardCharsets.UTF_8).length + 8 + 8 + 8 + 4;
+        }
+
+        Path temp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (OutputStream os = Files.newOutputStream(temp);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(csvLoader.getNames().fingerprint());
+            out.writeInt(entries.size());
+            long offset = indexSize;
+            for (Entry entry : entries.values()) {
+                int length = segments.get(entry.name()).remaining();
+                writeString(out, entry.name());
+                out.writeLong(entry.size());
+                out.writeLong(entry.mtime());
+                out.writeLong(offset);
+                out.writeInt(length);
+                offset += length;
+            }
+            WritableByteChannel channel = Channels.newChannel(out);
+            for (Entry entry : entries.values()) {
+                ByteBuffer segment = segments.get(entry.name()).duplicate();
+                while (segment.hasRemaining()) {
+                    channel.write(segment);
+                }
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        try {
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    private static byte[] encodeSegment(List<Match> matches) throws IOException {
+        StringDictionary strings = new StringDictionary();
+        for (Match match : matches) {
+            strings.idOf(match.getLeague());
+            strings.idOf(match.getHome());
+            strings.idOf(match.getAway());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + matches.size() * 72);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(matches.size());
+            out.writeInt(strings.size());
+            for (String value : strings.values()) {
+                writeString(out, value);
+            }
+            for (Match match : matches) {
+                Score score = match.getScore();
+                out.writeInt(match.getRound());
+                out.writeInt(match.getMatchNo());
+                out.writeLong(MatchTable.toEpochMinute(match.getDateTime()));
+                out.writeInt(strings.find(match.getLeague()));
+                out.writeInt(strings.find(match.getHome()));
+                out.writeInt(strings.find(match.getAway()));
+                out.writeByte(match.getType() == null ? MatchTable.NO_VALUE : match.getType().ordinal());
+                out.writeDouble(unboxed(match.getWinOdd()));
+                out.writeDouble(unboxed(match.getDrawOdd()));
+                out.writeDouble(unboxed(match.getLoseOdd()));
+                out.writeShort(score == null ? MatchTable.NO_VALUE : score.home());
+                out.writeShort(score == null ? MatchTable.NO_VALUE : score.away());
+                out.writeByte(match.getResult() == null ? MatchTable.NO_VALUE : match.getResult().ordinal());
+                out.writeDouble(unboxed(match.getResultOdd()));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    // Segments hold canonical names under the fingerprinted alias files. Passing them through the resolver again
+    // does not change them; it only shares each name with the instances already loaded from other rounds.
+    private static void decodeSegment(ByteBuffer in, List<Match> target, TeamAliasResolver names) {
+        int rows = in.getInt();
+        String[] strings = new String[in.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(in);
+        }
+        String[] leagues = new String[strings.length];
+        String[] teams = new String[strings.length];
+        for (int i = 0; i < rows; i++) {
+            int round = in.getInt();
+            int matchNo = in.getInt();
+            long dateTime = in.getLong();
+            int league = in.getInt();
+            int home = in.getInt();
+            int away = in.getInt();
+            byte type = in.get();
+            double winOdd = in.getDouble();
+            double drawOdd = in.getDouble();
+            double loseOdd = in.getDouble();
+            short scoreHome = in.getShort();
+            short scoreAway = in.getShort();
+            byte result = in.get();
+            double resultOdd = in.getDouble();
+            target.add(new Match(round, matchNo, MatchTable.fromEpochMinute(dateTime),
+                    resolve(leagues, strings, league, names::league), resolve(teams, strings, home, names::team),
+                    resolve(teams, strings, away, names::team),
+                    type == MatchTable.NO_VALUE ? null : TYPES[type],
+                    boxed(winOdd), boxed(drawOdd), boxed(loseOdd),
+                    scoreHome == MatchTable.NO_VALUE ? null : new Score(scoreHome, scoreAway),
+                    result == MatchTable.NO_VALUE ? null : RESULTS[result],
+                    boxed(resultOdd)));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("String too long for snapshot: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String resolve(String[] resolved, String[] strings, int id, UnaryOperator<String> resolver) {
+        if (id == StringDictionary.NO_ID)
+            return null;
+        String name = resolved[id];
+        if (name == null) {
+            name = resolver.apply(strings[id]);
+            resolved[id] = name;
+        }
+        return name;
+    }
+
+    private static double unboxed(Double value) {
+        return value == null ? Double.NaN : value;
+    }
+
+    private static Double boxed(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private record Entry(String name, long size, long mtime, long offset, int length) {
+    }
+
+    private record Snapshot(Set<String> indexed, Map<String, ByteBuffer> reusable) {
+        static final Snapshot EMPTY = new Snapshot(Set.of(), Map.of());
+    }
+}
@@ -0,0 +1,53 @@
+package com.footballbet.store;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StringDictionary {
+    public static final int NO_ID = -1;
+
+    private final Map<String, Integer> ids;
+    private final List<String> values;
+
+    public StringDictionary() {
+        this.ids = new HashMap<>();
+        this.values = new ArrayList<>();
+    }
+
+    public StringDictionary(StringDictionary source) {
+        this.ids = new HashMap<>(source.ids);
+        this.values = new ArrayList<>(source.values);
+    }
+
+    public int idOf(String value) {
+        if (value == null)
+            return NO_ID;
+        Integer id = ids.get(value);
+        if (id != null)
+            return id;
+        int next = values.size();
+        ids.put(value, next);
+        values.add(value);
+        return next;
+    }
+
+    public int find(String value) {
+        if (value == null)
+            return NO_ID;
+        return ids.getOrDefault(value, NO_ID);
+    }
+
+    public String get(int id) {
+        return id == NO_ID ? null : values.get(id);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    List<String> values() {
+        return values;
+    }
+}
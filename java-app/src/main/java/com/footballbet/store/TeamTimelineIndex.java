@@ -0,0 +1,205 @@
+package com.footballbet.store;
+
+import com.footballbet.dto.team.TeamForm;
+import com.footballbet.model.MatchType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// Per-team timelines for one MatchTable: every team's row ids in kick-off order, packed into one array with
+// an offset per team id, plus form and streaks computed once at build time.
+public class TeamTimelineIndex {
+    private static final Comparator<TeamForm> HOTTEST = Comparator.comparingInt(TeamForm::formPoints).reversed()
+            .thenComparing(Comparator.comparingInt(TeamTimelineIndex::winStreak).reversed())
+            .thenComparing(TeamForm::team);
+
+    private final MatchTable table;
+    private final long version;
+    private final int[] offsets;
+    private final int[] rows;
+    private final TeamForm[] forms;
+    private final List<TeamForm> hottest;
+
+    private TeamTimelineIndex(MatchTable table, long version, int[] offsets, int[] rows, TeamForm[] forms) {
+        this.table = table;
+        this.version = version;
+        this.offsets = offsets;
+        this.rows = rows;
+        this.forms = forms;
+        List<TeamForm> ranked = new ArrayList<>(Arrays.asList(forms));
+        ranked.sort(HOTTEST);
+        this.hottest = Collections.unmodifiableList(ranked);
+    }
+
+    public static TeamTimelineIndex of(MatchTable table, long version, int formLength) {
+        int teams = table.teams().size();
+        int[] offsets = new int[teams + 1];
+        for (int i = 0; i < table.size(); i++) {
+            count(offsets, table.homeId(i));
+            if (table.awayId(i) != table.homeId(i))
+                count(offsets, table.awayId(i));
+        }
+        for (int t = 0; t < teams; t++) {
+            offsets[t + 1] += offsets[t];
+        }
+
+        int[] rows = new int[offsets[teams]];
+        int[] fill = Arrays.copyOf(offsets, teams);
+        for (int i = 0; i < table.size(); i++) {
+            if (table.homeId(i) != StringDictionary.NO_ID)
+                rows[fill[table.homeId(i)]++] = i;
+            if (table.awayId(i) != StringDictionary.NO_ID && table.awayId(i) != table.homeId(i))
+                rows[fill[table.awayId(i)]++] = i;
+        }
+
+        TeamForm[] forms = new TeamForm[teams];
+        for (int t = 0; t < teams; t++) {
+            sortByKickOff(table, rows, offsets[t], offsets[t + 1]);
+            forms[t] = form(table, t, rows, offsets[t], offsets[t + 1], Math.max(1, formLength));
+        }
+        return new TeamTimelineIndex(table, version, offsets, rows, forms);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public MatchTable table() {
+        return table;
+    }
+
+    public int teamId(String team) {
+        return team == null ? StringDictionary.NO_ID : table.teams().find(team);
+    }
+
+    // Row ids of the team's matches, oldest first.
+    public int[] timeline(int teamId) {
+        return Arrays.copyOfRange(rows, offsets[teamId], offsets[teamId + 1]);
+    }
+
+    // The latest limit rows of the team's timeline, oldest first.
+    public int[] latest(int teamId, int limit) {
+        int end = offsets[teamId + 1];
+        return Arrays.copyOfRange(rows, Math.max(offsets[teamId], end - limit), end);
+    }
+
+    public TeamForm form(int teamId) {
+        return forms[teamId];
+    }
+
+    public List<TeamForm> hottest(int limit) {
+        return hottest.subList(0, Math.min(limit, hottest.size()));
+    }
+
+    private static void count(int[] offsets, int teamId) {
+        if (teamId != StringDictionary.NO_ID)
+            offsets[teamId + 1]++;
+    }
+
+    // Rows arrive in (round, matchNo) order, which is nearly kick-off order, so insertion sort is close to linear.
+    private static void sortByKickOff(MatchTable table, int[] rows, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int row = rows[i];
+            long minute = table.dateTimeMinute(row);
+            int j = i - 1;
+            while (j >= from && (table.dateTimeMinute(rows[j]) > minute
+                    || (table.dateTimeMinute(rows[j]) == minute && rows[j] > row))) {
+                rows[j + 1] = rows[j];
+                j--;
+            }
+            rows[j + 1] = row;
+        }
+    }
+
+    private static TeamForm form(MatchTable table, int teamId, int[] rows, int from, int to, int formLength) {
+        // Settled fixture outcomes as +1/0/-1 with goal differences, oldest first.
+        int[] outcomes = new int[to - from];
+        int[] goalDifferences = new int[to - from];
+        int fixtures = 0;
+        int played = 0;
+        int previous = -1;
+        boolean scored = false;
+        int oddCount = 0;
+        double oddSum = 0;
+        for (int k = from; k < to; k++) {
+            int row = rows[k];
+            boolean home = table.homeId(row) == teamId;
+            if (table.typeOrdinal(row) == MatchType.GENERAL.ordinal()) {
+                double odd = home ? table.winOdd(row) : table.loseOdd(row);
+                if (!Double.isNaN(odd)) {
+                    oddSum += odd;
+                    oddCount++;
+                }
+            }
+            if (previous < 0 || !sameFixture(table, previous, row)) {
+                fixtures++;
+                scored = false;
+            }
+            previous = row;
+            if (scored || table.scoreHome(row) == MatchTable.NO_VALUE)
+                continue;
+            scored = true;
+            int difference = table.scoreHome(row) - table.scoreAway(row);
+            goalDifferences[played] = home ? difference : -difference;
+            outcomes[played] = Integer.signum(goalDifferences[played]);
+            played++;
+        }
+        return summarize(table.teams().get(teamId), fixtures, outcomes, goalDifferences, played, formLength,
+                oddCount == 0 ? null : oddSum / oddCount);
+    }
+
+    private static TeamForm summarize(String team, int fixtures, int[] outcomes, int[] goalDifferences, int played,
+            int formLength, Double averageOdd) {
+        int wins = 0;
+        int draws = 0;
+        int longestWin = 0;
+        int longestUnbeaten = 0;
+        int winRun = 0;
+        int unbeatenRun = 0;
+        for (int k = 0; k < played; k++) {
+            if (outcomes[k] > 0)
+                wins++;
+            else if (outcomes[k] == 0)
+                draws++;
+            winRun = outcomes[k] > 0 ? winRun + 1 : 0;
+            unbeatenRun = outcomes[k] >= 0 ? unbeatenRun + 1 : 0;
+            longestWin = Math.max(longestWin, winRun);
+            longestUnbeaten = Math.max(longestUnbeaten, unbeatenRun);
+        }
+
+        int streakLength = 0;
+        while (streakLength < played && outcomes[played - 1 - streakLength] == outcomes[played - 1])
+            streakLength++;
+
+        StringBuilder form = new StringBuilder(formLength);
+        List<Integer> differences = new ArrayList<>(formLength);
+        int formPoints = 0;
+        for (int k = Math.max(0, played - formLength); k < played; k++) {
+            form.append(letter(outcomes[k]));
+            differences.add(goalDifferences[k]);
+            formPoints += outcomes[k] > 0 ? 3 : outcomes[k] == 0 ? 1 : 0;
+        }
+
+        return new TeamForm(team, fixtures, played, wins, draws, played - wins - draws, form.toString(), formPoints,
+                differences, played == 0 ? null : String.valueOf(letter(outcomes[played - 1])), streakLength,
+                longestWin, longestUnbeaten, averageOdd);
+    }
+
+    // One game is listed once per bet type; a team plays one game at a time, so kick-off and opponent identify it.
+    private static boolean sameFixture(MatchTable table, int a, int b) {
+        if (table.homeId(a) != table.homeId(b) || table.awayId(a) != table.awayId(b))
+            return false;
+        long minute = table.dateTimeMinute(a);
+        return minute == MatchTable.NO_DATE_TIME ? table.round(a) == table.round(b) : minute == table.dateTimeMinute(b);
+    }
+
+    private static char letter(int outcome) {
+        return outcome > 0 ? 'W' : outcome == 0 ? 'D' : 'L';
+    }
+
+    private static int winStreak(TeamForm form) {
+        return "W".equals(form.streak()) ? form.streakLength() : 0;
+    }
+}
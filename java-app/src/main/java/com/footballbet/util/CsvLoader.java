@@ -1,25 +1,98 @@
 package com.footballbet.util;
 
+import com.footballbet.common.CsvColumns;
 import com.footballbet.model.Match;
 import com.footballbet.model.MatchType;
 import com.footballbet.model.Result;
 import com.footballbet.model.MatchDto;
+import com.footballbet.service.alias.TeamAliasResolver;
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
 import com.opencsv.bean.CsvToBeanBuilder;
+import com.opencsv.exceptions.CsvValidationException;
 import java.io.FileInputStream;
 import java.io.InputStreamReader;
 import java.io.PushbackInputStream;
 import java.io.Reader;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class CsvLoader {
-    public List<Match> load(String filePath) {
-        try (FileInputStream fis = new FileInputStream(filePath);
-                PushbackInputStream pbis = new PushbackInputStream(fis, 3);
-                Reader reader = new InputStreamReader(pbis, StandardCharsets.UTF_8)) {
+    private final TeamAliasResolver names;
+    private volatile HeaderMemo lastHeader;
+
+    public CsvLoader() {
+        this(TeamAliasResolver.getDefault());
+    }
+
+    public CsvLoader(TeamAliasResolver names) {
+        this.names = names;
+    }
+
+    public TeamAliasResolver getNames() {
+        return names;
+    }
+
+    public List<Match> load(String filePath) throws IOException {
+        try (Reader reader = openReader(filePath)) {
+            List<MatchDto> dtos = new CsvToBeanBuilder<MatchDto>(reader)
+                    .withType(MatchDto.class)
+                    .withIgnoreLeadingWhiteSpace(true)
+                    .build()
+                    .parse();
+
+            return dtos.stream()
+                    .map(this::toDomain)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    // Resolves the header once and hands each row to the consumer without building MatchDto beans.
+    public int stream(String filePath, Consumer<Match> consumer) throws IOException {
+        try (Reader reader = openReader(filePath);
+                CSVReader csvReader = new CSVReaderBuilder(reader)
+                        .withCSVParser(new CSVParserBuilder().withIgnoreLeadingWhiteSpace(true).build())
+                        .build()) {
+
+            String[] header = csvReader.readNext();
+            if (header == null)
+                return 0;
+
+            HeaderIndex columns = HeaderIndex.resolve(header);
+            int count = 0;
+            String[] row;
+            while ((row = csvReader.readNext()) != null) {
+                if (row.length == 1 && row[0].isBlank())
+                    continue;
+                consumer.accept(toDomain(row, columns));
+                count++;
+            }
+            return count;
+        } catch (CsvValidationException e) {
+            throw new IOException("Malformed CSV " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Streamed records nearly always repeat the previous record's field order, so the last resolved header is kept
+    // and only a different field sequence is resolved again. The memo is immutable and replaced whole.
+    public Match parseRecord(String[] header, String[] values) {
+        HeaderMemo memo = lastHeader;
+        if (memo == null || !Arrays.equals(memo.header(), header)) {
+            memo = new HeaderMemo(header.clone(), HeaderIndex.resolve(header));
+            lastHeader = memo;
+        }
+        return toDomain(values, memo.columns());
+    }
+
+    private Reader openReader(String filePath) throws IOException {
+        FileInputStream fis = new FileInputStream(filePath);
+        try {
+            PushbackInputStream pbis = new PushbackInputStream(fis, 3);
 
             // Skip BOM if present
             byte[] bom = new byte[3];
@@ -32,19 +105,10 @@ public class CsvLoader {
                     pbis.unread(bom, 0, n);
                 }
             }
-
-            List<MatchDto> dtos = new CsvToBeanBuilder<MatchDto>(reader)
-                    .withType(MatchDto.class)
-                    .withIgnoreLeadingWhiteSpace(true)
-                    .build()
-                    .parse();
-
-            return dtos.stream()
-                    .map(this::toDomain)
-                    .collect(Collectors.toList());
+            return new InputStreamReader(pbis, StandardCharsets.UTF_8);
         } catch (IOException e) {
-            e.printStackTrace();
-            return Collections.emptyList();
+            fis.close();
+            throw e;
         }
     }
 
@@ -53,9 +117,9 @@ public class CsvLoader {
                 ParseUtil.parseInt(dto.round),
                 ParseUtil.parseInt(dto.matchNo),
                 ParseUtil.parseDateTime(dto.dateTime),
-                dto.league,
-                dto.home,
-                dto.away,
+                names.league(dto.league),
+                names.team(dto.home),
+                names.team(dto.away),
                 MatchType.from(dto.type),
                 ParseUtil.parseDouble(dto.winOdd),
                 ParseUtil.parseDouble(dto.drawOdd),
@@ -64,4 +128,70 @@ public class CsvLoader {
                 Result.from(dto.result),
                 ParseUtil.parseDouble(dto.resultOdd));
     }
+
+    private Match toDomain(String[] row, HeaderIndex columns) {
+        return new Match(
+                ParseUtil.parseInt(value(row, columns.round)),
+                ParseUtil.parseInt(value(row, columns.matchNo)),
+                ParseUtil.parseDateTime(value(row, columns.dateTime)),
+                names.league(value(row, columns.league)),
+                names.team(value(row, columns.home)),
+                names.team(value(row, columns.away)),
+                MatchType.from(value(row, columns.type)),
+                ParseUtil.parseDouble(value(row, columns.winOdd)),
+                ParseUtil.parseDouble(value(row, columns.drawOdd)),
+                ParseUtil.parseDouble(value(row, columns.loseOdd)),
+                ParseUtil.parseScore(value(row, columns.score)),
+                Result.from(value(row, columns.result)),
+                ParseUtil.parseDouble(value(row, columns.resultOdd)));
+    }
+
+    private static String value(String[] row, int index) {
+        if (index < 0 || index >= row.length)
+            return null;
+        return row[index];
+    }
+
+    private record HeaderMemo(String[] header, HeaderIndex columns) {
+    }
+
+    private static final class HeaderIndex {
+        private int round = -1;
+        private int matchNo = -1;
+        private int dateTime = -1;
+        private int league = -1;
+        private int home = -1;
+        private int away = -1;
+        private int type = -1;
+        private int winOdd = -1;
+        private int drawOdd = -1;
+        private int loseOdd = -1;
+        private int score = -1;
+        private int result = -1;
+        private int resultOdd = -1;
+
+        static HeaderIndex resolve(String[] header) {
+            HeaderIndex index = new HeaderIndex();
+            for (int i = 0; i < header.length; i++) {
+                switch (header[i].trim()) {
+                    case CsvColumns.ROUND -> index.round = i;
+                    case CsvColumns.MATCH_NO -> index.matchNo = i;
+                    case CsvColumns.DATE_TIME -> index.dateTime = i;
+                    case CsvColumns.LEAGUE -> index.league = i;
+                    case CsvColumns.HOME -> index.home = i;
+                    case CsvColumns.AWAY -> index.away = i;
+                    case CsvColumns.TYPE -> index.type = i;
+                    case CsvColumns.WIN_ODD -> index.winOdd = i;
+                    case CsvColumns.DRAW_ODD -> index.drawOdd = i;
+                    case CsvColumns.LOSE_ODD -> index.loseOdd = i;
+                    case CsvColumns.SCORE -> index.score = i;
+                    case CsvColumns.RESULT -> index.result = i;
+                    case CsvColumns.RESULT_ODD -> index.resultOdd = i;
+                    default -> {
+                    }
+                }
+            }
+            return index;
+        }
+    }
 }
@@ -0,0 +1,219 @@
+package com.footballbet.util;
+
+import com.footballbet.model.FlashscoreMatch;
+import com.footballbet.model.Score;
+import com.footballbet.service.alias.TeamAliasResolver;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// Reads flashscore match CSVs without a fixed schema: columns are found by common header spellings, and
+// files without home, away and kickoff columns (league or team metadata) are skipped. Kickoffs given as
+// an instant are converted to Korean time to line up with betinfo.
+public class FlashscoreCsvLoader {
+    public static final ZoneId KICKOFF_ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final String[] ID_COLUMNS = {"matchid", "id", "eventid"};
+    private static final String[] KICKOFF_COLUMNS = {"datetime", "kickoff", "starttime", "startdate", "date"};
+    private static final String[] TIME_COLUMNS = {"time", "kickofftime"};
+    private static final String[] LEAGUE_COLUMNS = {"league", "leaguename", "tournament", "competition"};
+    private static final String[] HOME_COLUMNS = {"home", "hometeam", "homename"};
+    private static final String[] AWAY_COLUMNS = {"away", "awayteam", "awayname"};
+    private static final String[] SCORE_COLUMNS = {"score", "result"};
+    private static final String[] HOME_SCORE_COLUMNS = {"homescore", "homegoals"};
+    private static final String[] AWAY_SCORE_COLUMNS = {"awayscore", "awaygoals"};
+
+    private static final DateTimeFormatter[] DATE_TIME_FORMATS = {
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm[:ss]"),
+            DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm"),
+            DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm"),
+    };
+    private static final DateTimeFormatter[] DATE_FORMATS = {
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd.MM.yyyy"),
+            DateTimeFormatter.ofPattern("yyyy.MM.dd"),
+    };
+
+    private final TeamAliasResolver names;
+
+    public FlashscoreCsvLoader() {
+        this(TeamAliasResolver.getDefault());
+    }
+
+    public FlashscoreCsvLoader(TeamAliasResolver names) {
+        this.names = names;
+    }
+
+    // Fixtures crawled more than once are kept once, by flashscore id when the file has one.
+    public Load load(Path path) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> walk = Files.walk(path)) {
+                walk.filter(file -> file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv"))
+                        .sorted()
+                        .forEach(files::add);
+            }
+        } else if (Files.isRegularFile(path)) {
+            files.add(path);
+        }
+
+        List<FlashscoreMatch> matches = new ArrayList<>();
+        Set<String> seenIds = new HashSet<>();
+        int matchFiles = 0;
+        int skippedRows = 0;
+        for (Path file : files) {
+            int[] skipped = new int[1];
+            if (readFile(file, matches, seenIds, skipped)) {
+                matchFiles++;
+                skippedRows += skipped[0];
+            }
+        }
+        return new Load(matches, files.size(), matchFiles, skippedRows);
+    }
+
+    private boolean readFile(Path file, List<FlashscoreMatch> target, Set<String> seenIds, int[] skipped)
+            throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                CSVReader csv = new CSVReader(reader)) {
+            String[] header = csv.readNext();
+            if (header == null)
+                return false;
+            int id = column(header, ID_COLUMNS);
+            int kickoff = column(header, KICKOFF_COLUMNS);
+            int time = column(header, TIME_COLUMNS);
+            int league = column(header, LEAGUE_COLUMNS);
+            int home = column(header, HOME_COLUMNS);
+            int away = column(header, AWAY_COLUMNS);
+            int score = column(header, SCORE_COLUMNS);
+            int homeScore = column(header, HOME_SCORE_COLUMNS);
+            int awayScore = column(header, AWAY_SCORE_COLUMNS);
+            if (kickoff < 0 || home < 0 || away < 0)
+                return false;
+
+            String[] row;
+            while ((row = csv.readNext()) != null) {
+                LocalDateTime at = parseKickoff(value(row, kickoff), value(row, time));
+                String homeName = value(row, home);
+                String awayName = value(row, away);
+                if (at == null || homeName == null || awayName == null) {
+                    skipped[0]++;
+                    continue;
+                }
+                String matchId = value(row, id);
+                if (matchId != null && !seenIds.add(matchId))
+                    continue;
+                target.add(new FlashscoreMatch(matchId, at, names.league(value(row, league)), names.team(homeName),
+                        names.team(awayName), parseScore(row, score, homeScore, awayScore)));
+            }
+            return true;
+        } catch (CsvValidationException e) {
+            throw new IOException("Malformed CSV " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Returns null for anything that cannot be placed to the minute, including a date without a time: matching
+    // against betinfo needs the kickoff within minutes, so midnight would only produce a false miss.
+    static LocalDateTime parseKickoff(String text, String time) {
+        if (text == null)
+            return null;
+        if (text.chars().allMatch(Character::isDigit) && text.length() >= 10) {
+            try {
+                long epoch = Long.parseLong(text);
+                Instant instant = text.length() >= 13 ? Instant.ofEpochMilli(epoch) : Instant.ofEpochSecond(epoch);
+                return LocalDateTime.ofInstant(instant, KICKOFF_ZONE);
+            } catch (NumberFormatException | DateTimeException e) {
+                return null;
+            }
+        }
+        try {
+            return OffsetDateTime.parse(text).atZoneSameInstant(KICKOFF_ZONE).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            // Not an instant; try local formats below.
+        }
+        for (DateTimeFormatter format : DATE_TIME_FORMATS) {
+            try {
+                return LocalDateTime.parse(text, format);
+            } catch (DateTimeParseException e) {
+                // Try the next format.
+            }
+        }
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                LocalDate date = LocalDate.parse(text, format);
+                return time == null ? null : date.atTime(LocalTime.parse(time));
+            } catch (DateTimeParseException e) {
+                // Try the next format.
+            }
+        }
+        return null;
+    }
+
+    private static Score parseScore(String[] row, int score, int homeScore, int awayScore) {
+        if (homeScore >= 0 && awayScore >= 0) {
+            Integer home = parseGoals(value(row, homeScore));
+            Integer away = parseGoals(value(row, awayScore));
+            return home == null || away == null ? null : new Score(home, away);
+        }
+        String text = value(row, score);
+        return text == null ? null : ParseUtil.parseScore(text.replace('-', ':'));
+    }
+
+    private static Integer parseGoals(String text) {
+        if (text == null)
+            return null;
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int column(String[] header, String[] candidates) {
+        for (String candidate : candidates) {
+            for (int i = 0; i < header.length; i++) {
+                if (headerKey(header[i]).equals(candidate))
+                    return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String headerKey(String header) {
+        StringBuilder key = new StringBuilder(header.length());
+        for (int i = 0; i < header.length(); i++) {
+            char c = header.charAt(i);
+            if (Character.isLetterOrDigit(c))
+                key.append(Character.toLowerCase(c));
+        }
+        return key.toString();
+    }
+
+    private static String value(String[] row, int index) {
+        if (index < 0 || index >= row.length || row[index].isBlank())
+            return null;
+        return row[index].trim();
+    }
+
+    public record Load(List<FlashscoreMatch> matches, int files, int matchFiles, int skippedRows) {
+    }
+}
@@ -1,54 +1,189 @@
 package com.footballbet.util;
 
 import com.footballbet.model.Score;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.Locale;
-// Unused import removed
+import java.time.Month;
+import java.time.Year;
 
+// Cell parsers for the CSV loaders. They walk the characters directly and return null (or 0 for ints) on bad
+// input instead of throwing, so a malformed cell costs no more than a valid one.
 public class ParseUtil {
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yy.MM.dd (E) HH:mm",
-            Locale.KOREAN);
+    // Day-of-week letters of the betinfo "yy.MM.dd (E) HH:mm" format, Monday first like DayOfWeek.
+    private static final String WEEKDAYS = "월화수목금토일";
+    private static final int DATE_TIME_LENGTH = 18;
+    private static final int DATE_MEMO_SIZE = 64;
+    private static final DateMemo[] DATE_MEMO = new DateMemo[DATE_MEMO_SIZE];
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
 
-    public static LocalDateTime parseDateTime(String text) {
-        if (text == null || text.isBlank())
+    // Rows of one round share a handful of kickoffs, so recent timestamps are remembered by content. Entries
+    // are immutable and replaced whole, which keeps the memo safe to share between loader threads.
+    public static LocalDateTime parseDateTime(CharSequence text) {
+        if (text == null)
             return null;
-        try {
-            return LocalDateTime.parse(text, DATE_FORMATTER);
-        } catch (DateTimeParseException e) {
-            // Log warning?
+        int from = skipLeading(text, 0, text.length());
+        int to = skipTrailing(text, from, text.length());
+        if (from == to)
             return null;
-        }
+
+        int slot = hash(text, from, to) & (DATE_MEMO_SIZE - 1);
+        DateMemo memo = DATE_MEMO[slot];
+        if (memo != null && memo.matches(text, from, to))
+            return memo.value();
+        LocalDateTime value = parseDateTime(text, from, to);
+        DATE_MEMO[slot] = new DateMemo(text.subSequence(from, to).toString(), value);
+        return value;
     }
 
-    public static Double parseDouble(String text) {
-        if (text == null || text.isBlank() || text.equals("-"))
+    public static Double parseDouble(CharSequence text) {
+        if (text == null)
             return null;
-        try {
-            return Double.parseDouble(text);
-        } catch (NumberFormatException e) {
+        int from = skipLeading(text, 0, text.length());
+        int to = skipTrailing(text, from, text.length());
+        if (from == to || (to - from == 1 && text.charAt(from) == '-'))
             return null;
+
+        int i = from;
+        boolean negative = text.charAt(i) == '-';
+        if (negative || text.charAt(i) == '+')
+            i++;
+        long mantissa = 0;
+        int digits = 0;
+        int significant = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        for (; i < to; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (fraction)
+                    fractionDigits++;
+                if (significant > 0 || c != '0')
+                    significant++;
+                if (significant <= MAX_EXACT_DIGITS)
+                    mantissa = mantissa * 10 + (c - '0');
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else if ((c == 'e' || c == 'E') && digits > 0) {
+                return parseExponent(text, from, to, i + 1);
+            } else {
+                return null;
+            }
         }
+        if (digits == 0)
+            return null;
+        if (significant > MAX_EXACT_DIGITS || fractionDigits >= POWERS_OF_TEN.length)
+            return Double.parseDouble(text.subSequence(from, to).toString());
+        // Both operands are exact doubles, so one division gives the correctly rounded result.
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
     }
 
-    public static Integer parseInt(String text) {
-        if (text == null || text.isBlank())
+    public static int parseInt(CharSequence text) {
+        if (text == null)
+            return 0;
+        int from = skipLeading(text, 0, text.length());
+        int to = skipTrailing(text, from, text.length());
+        if (from == to)
             return 0;
-        try {
-            return Integer.parseInt(text);
-        } catch (NumberFormatException e) {
+        boolean negative = text.charAt(from) == '-';
+        if (negative || text.charAt(from) == '+')
+            from++;
+        if (from == to || to - from > 10)
             return 0;
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9')
+                return 0;
+            value = value * 10 + (c - '0');
         }
+        value = negative ? -value : value;
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? 0 : (int) value;
+    }
+
+    public static Score parseScore(CharSequence text) {
+        return Score.tryParse(text);
     }
 
-    public static Score parseScore(String text) {
-        if (text == null || text.isBlank())
+    private static LocalDateTime parseDateTime(CharSequence text, int from, int to) {
+        if (to - from != DATE_TIME_LENGTH || text.charAt(from + 2) != '.' || text.charAt(from + 5) != '.'
+                || text.charAt(from + 8) != ' ' || text.charAt(from + 9) != '(' || text.charAt(from + 11) != ')'
+                || text.charAt(from + 12) != ' ' || text.charAt(from + 15) != ':')
+            return null;
+        int year = twoDigits(text, from);
+        int month = twoDigits(text, from + 3);
+        int day = twoDigits(text, from + 6);
+        int hour = twoDigits(text, from + 13);
+        int minute = twoDigits(text, from + 16);
+        int weekday = WEEKDAYS.indexOf(text.charAt(from + 10)) + 1;
+        if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59
+                || weekday == 0)
+            return null;
+        year += 2000;
+        if (day > Month.of(month).length(Year.isLeap(year)))
             return null;
-        try {
-            return Score.parse(text);
-        } catch (IllegalArgumentException e) {
+        LocalDate date = LocalDate.of(year, month, day);
+        // The formatter rejected a weekday that disagrees with the date; keep that check.
+        if (date.getDayOfWeek().getValue() != weekday)
+            return null;
+        return date.atTime(hour, minute);
+    }
+
+    private static Double parseExponent(CharSequence text, int from, int to, int exponentStart) {
+        int i = exponentStart;
+        if (i < to && (text.charAt(i) == '-' || text.charAt(i) == '+'))
+            i++;
+        if (i == to)
             return null;
+        for (; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9')
+                return null;
+        }
+        return Double.parseDouble(text.subSequence(from, to).toString());
+    }
+
+    private static int twoDigits(CharSequence text, int index) {
+        char tens = text.charAt(index);
+        char ones = text.charAt(index + 1);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9')
+            return -1;
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static int skipLeading(CharSequence text, int from, int to) {
+        while (from < to && Character.isWhitespace(text.charAt(from)))
+            from++;
+        return from;
+    }
+
+    private static int skipTrailing(CharSequence text, int from, int to) {
+        while (to > from && Character.isWhitespace(text.charAt(to - 1)))
+            to--;
+        return to;
+    }
+
+    private static int hash(CharSequence text, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private record DateMemo(String text, LocalDateTime value) {
+        boolean matches(CharSequence other, int from, int to) {
+            if (text.length() != to - from)
+                return false;
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) != other.charAt(from + i))
+                    return false;
+            }
+            return true;
         }
     }
 }
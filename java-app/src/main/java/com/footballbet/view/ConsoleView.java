@@ -1,26 +1,56 @@
 package com.footballbet.view;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.footballbet.model.Match;
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public class ConsoleView {
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
     private final ObjectMapper mapper;
+    private final OutputStream out;
 
     public ConsoleView() {
+        this(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), OUTPUT_BUFFER_SIZE));
+    }
+
+    public ConsoleView(OutputStream out) {
         this.mapper = new ObjectMapper();
         this.mapper.registerModule(new Jdk8Module());
         this.mapper.registerModule(new JavaTimeModule());
+        this.mapper.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.mapper.getFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.out = out;
+    }
+
+    public ObjectMapper getMapper() {
+        return mapper;
     }
 
     public void displayMatches(List<Match> matches) {
-        try {
-            String json = mapper.writeValueAsString(matches);
-            System.out.println(json);
+        displayMatches(matches, false);
+    }
+
+    public void displayMatches(List<Match> matches, boolean ndjson) {
+        try (MatchJsonStream stream = openStream(ndjson)) {
+            for (Match match : matches) {
+                stream.write(match);
+            }
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
+
+    public MatchJsonStream openStream(boolean ndjson) throws IOException {
+        return new MatchJsonStream(mapper, out, ndjson);
+    }
 }
@@ -0,0 +1,43 @@
+package com.footballbet.view;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballbet.model.Match;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Writes matches one at a time, either as a single JSON array or as NDJSON (one object per line).
+// Only the generator's buffer is held, so memory does not grow with the number of matches.
+public class MatchJsonStream implements AutoCloseable {
+    private final ObjectMapper mapper;
+    private final JsonGenerator generator;
+    private final boolean ndjson;
+
+    public MatchJsonStream(ObjectMapper mapper, OutputStream out, boolean ndjson) throws IOException {
+        this.mapper = mapper;
+        this.ndjson = ndjson;
+        this.generator = mapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (ndjson) {
+            generator.setRootValueSeparator(null);
+        } else {
+            generator.writeStartArray();
+        }
+    }
+
+    public void write(Match match) throws IOException {
+        mapper.writeValue(generator, match);
+        if (ndjson) {
+            generator.writeRaw('\n');
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!ndjson) {
+            generator.writeEndArray();
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+}
@@ -0,0 +1,87 @@
+package com.footballbet.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class ApiResponsesTest {
+    private static final String ETAG = ApiResponses.etag("m", 42);
+    private static final String LARGE_BODY = "[" + "0,".repeat(1024) + "0]";
+
+    @Test
+    void onlyCompressedBodiesGetTheGzipEtag() throws IOException {
+        HttpExchange identity = exchange(null, null);
+        HttpExchange small = exchange("gzip, deflate", null);
+        HttpExchange large = exchange("gzip, deflate", null);
+
+        for (HttpExchange exchange : new HttpExchange[] { identity, small, large })
+            ApiResponses.notModified(exchange, ETAG);
+        ApiResponses.sendJson(identity, 200, LARGE_BODY);
+        ApiResponses.sendJson(small, 200, "{}");
+        ApiResponses.sendJson(large, 200, LARGE_BODY);
+
+        assertThat(identity.getResponseHeaders().getFirst("ETag")).isEqualTo(ETAG);
+        assertThat(small.getResponseHeaders().getFirst("ETag")).isEqualTo(ETAG);
+        assertThat(small.getResponseHeaders().getFirst("Content-Encoding")).isNull();
+        assertThat(large.getResponseHeaders().getFirst("ETag")).isNotEqualTo(ETAG).endsWith("-gzip\"");
+        assertThat(large.getResponseHeaders().getFirst("Content-Encoding")).isEqualTo("gzip");
+        assertThat(large.getResponseHeaders().getFirst("Vary")).isEqualTo("Accept-Encoding");
+    }
+
+    @Test
+    void validatorOfOneEncodingDoesNotMatchTheOther() throws IOException {
+        HttpExchange gzip = exchange("gzip", null);
+        ApiResponses.notModified(gzip, ETAG);
+        ApiResponses.sendJson(gzip, 200, LARGE_BODY);
+        String gzipTag = gzip.getResponseHeaders().getFirst("ETag");
+
+        HttpExchange identity = exchange(null, gzipTag);
+        assertThat(ApiResponses.notModified(identity, ETAG)).isFalse();
+        verify(identity, never()).sendResponseHeaders(anyInt(), anyLong());
+
+        HttpExchange sameEncoding = exchange("gzip", gzipTag);
+        assertThat(ApiResponses.notModified(sameEncoding, ETAG)).isTrue();
+        verify(sameEncoding).sendResponseHeaders(304, -1);
+    }
+
+    @Test
+    void gzipClientHoldingAnIdentityTagIsNotModified() throws IOException {
+        HttpExchange small = exchange("gzip", ETAG);
+        assertThat(ApiResponses.notModified(small, ETAG)).isTrue();
+        verify(small).sendResponseHeaders(304, -1);
+    }
+
+    @Test
+    void identityJsonResponsesVaryOnAcceptEncoding() throws IOException {
+        HttpExchange identity = exchange(null, null);
+
+        ApiResponses.sendJson(identity, 200, "{}");
+
+        assertThat(identity.getResponseHeaders().getFirst("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(identity.getResponseHeaders().getFirst("Content-Encoding")).isNull();
+    }
+
+    private static HttpExchange exchange(String acceptEncoding, String ifNoneMatch) {
+        Headers request = new Headers();
+        if (acceptEncoding != null)
+            request.set("Accept-Encoding", acceptEncoding);
+        if (ifNoneMatch != null)
+            request.set("If-None-Match", ifNoneMatch);
+        Headers response = new Headers();
+        HttpExchange exchange = mock(HttpExchange.class);
+        when(exchange.getRequestHeaders()).thenReturn(request);
+        when(exchange.getResponseHeaders()).thenReturn(response);
+        when(exchange.getResponseBody()).thenReturn(new ByteArrayOutputStream());
+        return exchange;
+    }
+}
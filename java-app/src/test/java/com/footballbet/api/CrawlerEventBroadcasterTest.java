@@ -0,0 +1,117 @@
+package com.footballbet.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.footballbet.domain.crawler.CrawlerStatus;
+import com.footballbet.dto.crawler.CrawlerState;
+import com.footballbet.service.crawler.PythonCrawlerService;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CrawlerEventBroadcasterTest {
+    private final AtomicReference<CrawlerState> state = new AtomicReference<>(
+            new CrawlerState(CrawlerStatus.values()[0], 0, null, 1));
+    private CrawlerEventBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    @Test
+    void subscribersJoiningDuringUpdatesEndOnTheLatestStatus() throws Exception {
+        PythonCrawlerService service = mock(PythonCrawlerService.class);
+        when(service.getFullState()).thenAnswer(invocation -> state.get());
+        broadcaster = new CrawlerEventBroadcaster(service, 1);
+
+        List<ByteArrayOutputStream> bodies = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            bodies.add(body);
+            broadcaster.handle(exchange(body));
+            state.set(state.get().withProgress(i + 1));
+            Thread.sleep(1);
+        }
+        long finalVersion = state.get().version();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline && !bodies.stream()
+                .allMatch(body -> lastVersion(body) == finalVersion)) {
+            Thread.sleep(10);
+        }
+        for (ByteArrayOutputStream body : bodies) {
+            assertThat(lastVersion(body)).isEqualTo(finalVersion);
+        }
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(bodies.size());
+    }
+
+    @Test
+    void changeBetweenFirstStatusAndSubscribingStillReachesTheClient() throws Exception {
+        PythonCrawlerService service = mock(PythonCrawlerService.class);
+        AtomicBoolean armed = new AtomicBoolean();
+        CountDownLatch tickSawChange = new CountDownLatch(1);
+        when(service.getFullState()).thenAnswer(invocation -> {
+            CrawlerState current = state.get();
+            if (!calledFromTick() && armed.getAndSet(false)) {
+                // The state moves on right after the first status is read; a tick picks it up before returning
+                // unless the read happens on the broadcaster's own thread.
+                state.set(current.withProgress(50));
+                if (!Thread.currentThread().getName().equals("crawler-events"))
+                    tickSawChange.await(1, TimeUnit.SECONDS);
+            } else if (current.version() == 2 && Thread.currentThread().getName().equals("crawler-events")) {
+                tickSawChange.countDown();
+            }
+            return current;
+        });
+        broadcaster = new CrawlerEventBroadcaster(service, 5);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        armed.set(true);
+        broadcaster.handle(exchange(body));
+
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (System.currentTimeMillis() < deadline && lastVersion(body) != 2) {
+            Thread.sleep(10);
+        }
+        assertThat(lastVersion(body)).isEqualTo(2);
+    }
+
+    private static boolean calledFromTick() {
+        return StackWalker.getInstance().walk(frames -> frames.anyMatch(frame -> frame.getMethodName().equals("tick")
+                && frame.getClassName().equals(CrawlerEventBroadcaster.class.getName())));
+    }
+
+    private static long lastVersion(ByteArrayOutputStream body) {
+        String text;
+        synchronized (body) {
+            text = body.toString(StandardCharsets.UTF_8);
+        }
+        int at = text.lastIndexOf("\"version\":");
+        if (at < 0)
+            return -1;
+        int end = at + "\"version\":".length();
+        while (end < text.length() && Character.isDigit(text.charAt(end)))
+            end++;
+        return Long.parseLong(text.substring(at + "\"version\":".length(), end));
+    }
+
+    private static HttpExchange exchange(ByteArrayOutputStream body) throws IOException {
+        HttpExchange exchange = mock(HttpExchange.class);
+        when(exchange.getResponseHeaders()).thenReturn(new Headers());
+        when(exchange.getResponseBody()).thenReturn(body);
+        return exchange;
+    }
+}
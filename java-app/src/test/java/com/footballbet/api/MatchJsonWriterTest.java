@@ -0,0 +1,99 @@
+package com.footballbet.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.footballbet.dto.match.MatchField;
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.model.Score;
+import com.footballbet.store.MatchTable;
+import com.footballbet.store.MatchTableBuilder;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class MatchJsonWriterTest {
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int ALL_FIELDS = allFields();
+
+    @Test
+    void settledRowsAreCachedUntilEvicted() throws IOException {
+        AtomicLong version = new AtomicLong(1);
+        MatchJsonWriter writer = new MatchJsonWriter(JSON, version::get);
+        MatchTable table = MatchTable.from(List.of(match(2025001, 1, Result.WIN), match(2025001, 2, null)));
+
+        String first = write(writer, table, 0, 1);
+        write(writer, table, 1, 1);
+
+        assertThat(writer.cachedRows()).isEqualTo(1);
+        assertThat(write(writer, table, 0, 1)).isEqualTo(first);
+        writer.evict(List.of(match(2025001, 1, Result.LOSE)));
+        assertThat(writer.cachedRows()).isZero();
+    }
+
+    @Test
+    void rowsFromAnOlderSnapshotAreNotCached() throws IOException {
+        AtomicLong version = new AtomicLong(2);
+        MatchJsonWriter writer = new MatchJsonWriter(JSON, version::get);
+
+        write(writer, MatchTable.from(List.of(match(2025001, 1, Result.WIN))), 0, 1);
+
+        assertThat(writer.cachedRows()).isZero();
+    }
+
+    @Test
+    void publishBetweenCheckAndPutLeavesNoStaleRow() throws IOException {
+        // The version moves on right after the first read, as if a publish and its eviction ran in between.
+        AtomicLong reads = new AtomicLong();
+        MatchJsonWriter writer = new MatchJsonWriter(JSON, () -> reads.incrementAndGet() == 1 ? 1 : 2);
+
+        write(writer, MatchTable.from(List.of(match(2025001, 1, Result.WIN))), 0, 1);
+
+        assertThat(writer.cachedRows()).isZero();
+    }
+
+    @Test
+    void cacheStopsGrowingAtItsRowLimit() throws IOException {
+        MatchJsonWriter writer = new MatchJsonWriter(JSON, () -> 1);
+        MatchTableBuilder builder = new MatchTableBuilder(100_050);
+        for (int i = 0; i < 100_050; i++) {
+            builder.add(match(2025000 + i / 14, i % 14 + 1, Result.WIN));
+        }
+        MatchTable table = builder.build();
+
+        for (int i = 0; i < table.size(); i++) {
+            write(writer, table, i, 1);
+        }
+
+        assertThat(writer.cachedRows()).isEqualTo(100_000);
+    }
+
+    private static String write(MatchJsonWriter writer, MatchTable table, int index, long version)
+            throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator gen = JSON.createGenerator(out)) {
+            writer.write(gen, table, index, ALL_FIELDS, version);
+        }
+        return out.toString();
+    }
+
+    private static int allFields() {
+        int mask = 0;
+        for (MatchField field : MatchField.values()) {
+            mask |= field.bit();
+        }
+        return mask;
+    }
+
+    private static Match match(int round, int matchNo, Result result) {
+        return new Match(round, matchNo, LocalDateTime.of(2025, 3, 15, 19, 0), "EPL", "Arsenal", "Chelsea",
+                MatchType.GENERAL, 1.8, 3.4, 4.1, result == null ? null : new Score(1, 0), result,
+                result == null ? null : 1.8);
+    }
+}
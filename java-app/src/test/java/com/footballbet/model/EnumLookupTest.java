@@ -0,0 +1,41 @@
+package com.footballbet.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EnumLookupTest {
+    @Test
+    void descriptionsAndNamesResolveInAnyCase() {
+        for (MatchType type : MatchType.values()) {
+            assertThat(MatchType.from(type.getDescription())).isEqualTo(type);
+            assertThat(MatchType.from(type.name().toLowerCase())).isEqualTo(type);
+        }
+        for (Result result : Result.values()) {
+            assertThat(Result.from(result.getDescription())).isEqualTo(result);
+            assertThat(Result.from(result.name().toLowerCase())).isEqualTo(result);
+        }
+        assertThat(MatchType.from("Under_Over")).isEqualTo(MatchType.UNDER_OVER);
+        assertThat(Result.from(" Win ")).isEqualTo(Result.WIN);
+    }
+
+    @Test
+    void fullWidthSpellingsResolve() {
+        assertThat(Result.from("\uFF35")).isEqualTo(Result.UNDER);
+        assertThat(Result.from("\uFF2F")).isEqualTo(Result.OVER);
+        assertThat(Result.from("\uFF57\uFF49\uFF4E")).isEqualTo(Result.WIN);
+    }
+
+    @Test
+    void unknownSpellingsAreCountedButBlankCellsAreNot() {
+        EnumLookup<Result> lookup = new EnumLookup<>(Result.values(), Result::getDescription);
+
+        assertThat(lookup.from("취소", Result.UNKNOWN)).isEqualTo(Result.UNKNOWN);
+        assertThat(lookup.from("취소", Result.UNKNOWN)).isEqualTo(Result.UNKNOWN);
+        assertThat(lookup.from(" ", Result.UNKNOWN)).isEqualTo(Result.UNKNOWN);
+        assertThat(lookup.find("취소")).isNull();
+
+        assertThat(lookup.unknownInputs()).containsExactly(Map.entry("취소", 2L));
+    }
+}
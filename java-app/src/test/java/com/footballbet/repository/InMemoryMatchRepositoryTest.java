@@ -0,0 +1,81 @@
+package com.footballbet.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.model.Score;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class InMemoryMatchRepositoryTest {
+    private static final LocalDateTime KICKOFF = LocalDateTime.of(2025, 3, 15, 19, 0);
+
+    @Test
+    void packedKeysKeepRoundAndMatchNoApart() {
+        assertThat(InMemoryMatchRepository.key(1, -1)).isNotEqualTo(InMemoryMatchRepository.key(0, -1));
+        assertThat(InMemoryMatchRepository.key(0, -1)).isNotEqualTo(InMemoryMatchRepository.key(-1, 0));
+        assertThat(InMemoryMatchRepository.key(-1, -1)).isNotEqualTo(InMemoryMatchRepository.key(-1, 0));
+        assertThat(InMemoryMatchRepository.key(2, 1)).isNotEqualTo(InMemoryMatchRepository.key(1, 2));
+    }
+
+    @Test
+    void findsRowsWithNegativeAndZeroMatchNumbers() {
+        InMemoryMatchRepository repository = new InMemoryMatchRepository();
+        repository.saveAll(List.of(
+                match(2025001, -1, "EPL", "Arsenal", "Chelsea", MatchType.GENERAL),
+                match(2025001, 0, "EPL", "Fulham", "Everton", MatchType.GENERAL),
+                match(2025000, -1, "EPL", "Leeds", "Burnley", MatchType.GENERAL)));
+
+        assertThat(repository.size()).isEqualTo(3);
+        assertThat(repository.findByRoundAndMatchNo(2025001, -1)).get().extracting(Match::getHome)
+                .isEqualTo("Arsenal");
+        assertThat(repository.findByRoundAndMatchNo(2025001, 0)).get().extracting(Match::getHome)
+                .isEqualTo("Fulham");
+        assertThat(repository.findByRoundAndMatchNo(2025000, -1)).get().extracting(Match::getHome)
+                .isEqualTo("Leeds");
+        assertThat(repository.findByRoundAndMatchNo(2025000, 0)).isEmpty();
+    }
+
+    @Test
+    void upsertMovesTheRowBetweenIndexes() {
+        InMemoryMatchRepository repository = new InMemoryMatchRepository();
+        repository.saveAll(List.of(match(2025001, 1, "EPL", "Arsenal", "Chelsea", MatchType.GENERAL)));
+        repository.saveAll(List.of(match(2025001, 1, "LaLiga", "Arsenal", "Sevilla", MatchType.HANDICAP)));
+
+        assertThat(repository.size()).isEqualTo(1);
+        assertThat(repository.findByLeague("EPL")).isEmpty();
+        assertThat(repository.findByLeague("LaLiga")).hasSize(1);
+        assertThat(repository.findByTeam("Chelsea")).isEmpty();
+        assertThat(repository.findByTeam("Arsenal")).hasSize(1);
+        assertThat(repository.findByTeam("Sevilla")).hasSize(1);
+        assertThat(repository.findByType(MatchType.GENERAL)).isEmpty();
+        assertThat(repository.findByType(MatchType.HANDICAP)).hasSize(1);
+    }
+
+    @Test
+    void keyIndexSurvivesGrowthPastItsInitialSize() {
+        InMemoryMatchRepository repository = new InMemoryMatchRepository();
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            matches.add(match(2025000 + i / 14, i % 14 - 1, "EPL", "Home" + i, "Away" + i, MatchType.GENERAL));
+        }
+        repository.saveAll(matches);
+        repository.saveAll(matches.subList(0, 100));
+
+        assertThat(repository.size()).isEqualTo(5000);
+        for (int i = 0; i < 5000; i++) {
+            assertThat(repository.findByRoundAndMatchNo(2025000 + i / 14, i % 14 - 1)).get()
+                    .extracting(Match::getHome).isEqualTo("Home" + i);
+        }
+        assertThat(repository.findByTeam("Home0")).hasSize(1);
+    }
+
+    private static Match match(int round, int matchNo, String league, String home, String away, MatchType type) {
+        return new Match(round, matchNo, KICKOFF, league, home, away, type, 1.8, 3.4, 4.1, new Score(1, 0),
+                Result.WIN, 1.8);
+    }
+}
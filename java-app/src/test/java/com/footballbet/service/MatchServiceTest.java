@@ -0,0 +1,82 @@
+package com.footballbet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.footballbet.common.CsvColumns;
+import com.footballbet.dto.load.FileLoadResult;
+import com.footballbet.dto.load.LoadReport;
+import com.footballbet.dto.quality.QualityIssue;
+import com.footballbet.dto.quality.RoundQuality;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MatchServiceTest {
+    private static final String HEADER = String.join(",", CsvColumns.ROUND, CsvColumns.MATCH_NO,
+            CsvColumns.DATE_TIME, CsvColumns.LEAGUE, CsvColumns.HOME, CsvColumns.AWAY, CsvColumns.TYPE,
+            CsvColumns.WIN_ODD, CsvColumns.DRAW_ODD, CsvColumns.LOSE_ODD, CsvColumns.SCORE, CsvColumns.RESULT,
+            CsvColumns.RESULT_ODD);
+
+    @TempDir
+    Path dir;
+
+    private Path data;
+    private final MatchService service = new MatchService();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        data = Files.createDirectories(dir.resolve("data"));
+        writeRound("betinfo_proto_round_2025001.csv", 2025001);
+        // A re-crawl of the same round under another name repeats every match.
+        writeRound("betinfo_proto_round_2025001_retry.csv", 2025001);
+    }
+
+    @Test
+    void defaultLoadFlagsDuplicatesAcrossFiles() {
+        assertDuplicatesInSecondFile(service.loadMatches(data.toString()));
+    }
+
+    @Test
+    void parallelLoadFlagsDuplicatesAcrossFiles() {
+        assertDuplicatesInSecondFile(service.loadMatchesParallel(data.toString(), 2));
+    }
+
+    @Test
+    void cachedLoadFlagsDuplicatesAcrossFiles() {
+        assertDuplicatesInSecondFile(service.loadMatchesCached(data.toString()));
+        assertDuplicatesInSecondFile(service.loadMatchesCached(data.toString()));
+    }
+
+    @Test
+    void defaultLoadReportsUnreadableFiles() throws IOException {
+        Files.createDirectories(data.resolve("betinfo_proto_round_2025002.csv"));
+
+        LoadReport report = service.loadMatches(data.toString());
+
+        assertThat(report.failedFiles()).isEqualTo(1);
+        assertThat(report.files().get(2).isFailed()).isTrue();
+        assertThat(report.matches()).hasSize(4);
+    }
+
+    private static void assertDuplicatesInSecondFile(LoadReport report) {
+        assertThat(report.failedFiles()).isZero();
+        List<FileLoadResult> files = report.files();
+        assertThat(files).hasSize(2);
+        assertThat(files.get(0).flaggedRows()).isZero();
+        RoundQuality round = files.get(1).quality().get(0);
+        assertThat(round.flaggedRows()).isEqualTo(2);
+        assertThat(round.issues()).containsEntry(QualityIssue.DUPLICATE_MATCH, 2);
+    }
+
+    private void writeRound(String name, int round) throws IOException {
+        Files.writeString(data.resolve(name), HEADER + "\n"
+                + round + ",1,\"25.03.15 (토) 19:00\",EPL,Arsenal,Chelsea,일반,1.8,3.5,4.2,2:1,승,1.8\n"
+                + round + ",2,\"25.03.16 (일) 21:00\",EPL,Fulham,Everton,일반,2.4,3.1,2.9,0:0,무,3.1\n",
+                StandardCharsets.UTF_8);
+    }
+}
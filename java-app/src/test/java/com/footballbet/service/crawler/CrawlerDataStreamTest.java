@@ -0,0 +1,41 @@
+package com.footballbet.service.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.footballbet.model.Match;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CrawlerDataStreamTest {
+    private final List<Match> published = new ArrayList<>();
+    private CrawlerDataStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new CrawlerDataStream(100, 60_000);
+        stream.addListener(published::addAll);
+    }
+
+    @Test
+    void acceptsRecordsKeyedByTheCsvColumns() {
+        stream.accept("{\"회차\":\"2025001\",\"경기번호\":\"3\",\"홈\":\"Arsenal\",\"원정\":\"Chelsea\","
+                + "\"승(국내)\":\"1.8\"}");
+        stream.flush();
+
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).getMatchNo()).isEqualTo(3);
+        assertThat(stream.getRejectedCount()).isZero();
+    }
+
+    @Test
+    void rejectsRecordsWithoutARoundOrMatchNumber() {
+        stream.accept("[{}, {\"회차\":\"2025001\"}, {\"회차\":\"-1\",\"경기번호\":\"2\"},"
+                + " {\"회차\":\"x\",\"경기번호\":\"2\"}]");
+        stream.flush();
+
+        assertThat(published).isEmpty();
+        assertThat(stream.getRejectedCount()).isEqualTo(4);
+    }
+}
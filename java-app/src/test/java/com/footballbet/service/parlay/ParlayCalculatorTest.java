@@ -0,0 +1,188 @@
+package com.footballbet.service.parlay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.footballbet.dto.parlay.ParlayLeg;
+import com.footballbet.dto.parlay.ParlaySlip;
+import com.footballbet.dto.parlay.ParlayStats;
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+// Brute-force enumeration of every slip is the oracle; the search must return the same top-N after pruning and
+// forking the first levels across a pool.
+class ParlayCalculatorTest {
+    private static final Result[] SIDES = { Result.WIN, Result.DRAW, Result.LOSE };
+    private static final int[][] LEG_RANGES = { { 1, 1 }, { 2, 2 }, { 2, 4 }, { 1, 5 }, { 3, 6 } };
+    private static final int TOP = 15;
+
+    // An independent model, so expected value ranks differently from the other objectives. The skew is seeded
+    // per pick rather than drawn from a few steps, so no two slips tie and the order is unambiguous.
+    private static final LegProbability MODEL = (match, pick, implied) -> Math.min(0.95,
+            implied * (0.8 + 0.4 * new Random(match.getMatchNo() * 3L + pick.ordinal()).nextDouble()));
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ParlayCalculator calculator = new ParlayCalculator(pool, MODEL);
+    private final List<Match> round = round();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void topSlipsMatchBruteForceForEveryObjective() {
+        for (ParlayObjective objective : ParlayObjective.values()) {
+            for (int[] legs : LEG_RANGES) {
+                ParlayRequest request = ParlayRequest.of(legs[0], legs[1], objective, TOP);
+                assertSameAsBruteForce(request);
+            }
+        }
+    }
+
+    @Test
+    void oddsAndProbabilityFloorsMatchBruteForce() {
+        for (ParlayObjective objective : ParlayObjective.values()) {
+            assertSameAsBruteForce(new ParlayRequest(2, 4, objective, TOP, 8.0, 0.02));
+        }
+    }
+
+    @Test
+    void searchPrunesSubtrees() {
+        List<ParlaySlip> slips = new ArrayList<>();
+        ParlayStats stats = calculator.search(round, ParlayRequest.of(2, 5, ParlayObjective.HIT_PROBABILITY, 5),
+                slips::add);
+
+        assertThat(stats.pruned()).isPositive();
+        assertThat(stats.visited()).isLessThan(bruteForce(ParlayRequest.of(2, 5, ParlayObjective.HIT_PROBABILITY,
+                5), Integer.MAX_VALUE).size());
+        assertThat(stats.candidates()).isEqualTo(9);
+        assertThat(slips).hasSize(5);
+    }
+
+    private void assertSameAsBruteForce(ParlayRequest request) {
+        String label = request.objective() + " " + request.minLegs() + ".." + request.maxLegs();
+        List<ParlaySlip> actual = calculator.search(round, request);
+        List<Expected> expected = bruteForce(request, request.topN());
+
+        assertThat(actual).as(label).hasSize(expected.size());
+        for (int i = 0; i < actual.size(); i++) {
+            ParlaySlip slip = actual.get(i);
+            assertThat(slip.legs().size()).as(label).isBetween(request.minLegs(), request.maxLegs());
+            assertThat(Math.log(objectiveValue(slip, request.objective()))).as(label + " #" + i)
+                    .isCloseTo(expected.get(i).score(), within(1e-9));
+            assertThat(key(slip)).as(label + " #" + i).isEqualTo(expected.get(i).key());
+        }
+    }
+
+    private static double objectiveValue(ParlaySlip slip, ParlayObjective objective) {
+        return switch (objective) {
+            case EXPECTED_VALUE -> slip.totalOdds() * slip.hitProbability();
+            case TOTAL_ODDS -> slip.totalOdds();
+            case HIT_PROBABILITY -> slip.hitProbability();
+        };
+    }
+
+    private static String key(ParlaySlip slip) {
+        StringBuilder sb = new StringBuilder();
+        for (ParlayLeg leg : slip.legs()) {
+            sb.append(leg.matchNo()).append(leg.pick().name().charAt(0)).append(' ');
+        }
+        return sb.toString();
+    }
+
+    private record Leg(int matchNo, Result pick, double odd, double probability) {
+    }
+
+    private record Expected(double score, String key) {
+    }
+
+    private List<Expected> bruteForce(ParlayRequest request, int limit) {
+        List<Leg[]> matches = new ArrayList<>();
+        for (Match match : round) {
+            if (match.getType() != MatchType.GENERAL && match.getType() != MatchType.HANDICAP)
+                continue;
+            Double[] odds = { match.getWinOdd(), match.getDrawOdd(), match.getLoseOdd() };
+            double inverseTotal = 0;
+            List<Integer> quoted = new ArrayList<>();
+            for (int s = 0; s < odds.length; s++) {
+                if (odds[s] != null && odds[s] > 1) {
+                    inverseTotal += 1 / odds[s];
+                    quoted.add(s);
+                }
+            }
+            if (quoted.size() < 2)
+                continue;
+            Leg[] legs = new Leg[quoted.size()];
+            for (int o = 0; o < legs.length; o++) {
+                int s = quoted.get(o);
+                legs[o] = new Leg(match.getMatchNo(), SIDES[s], odds[s],
+                        MODEL.estimate(match, SIDES[s], (1 / odds[s]) / inverseTotal));
+            }
+            matches.add(legs);
+        }
+
+        List<Expected> all = new ArrayList<>();
+        enumerate(matches, 0, new ArrayList<>(), request, all);
+        all.sort(Comparator.comparingDouble(Expected::score).reversed());
+        return all.subList(0, Math.min(limit, all.size()));
+    }
+
+    private static void enumerate(List<Leg[]> matches, int from, List<Leg> slip, ParlayRequest request,
+            List<Expected> out) {
+        if (slip.size() >= request.minLegs()) {
+            double totalOdds = 1;
+            double hitProbability = 1;
+            for (Leg leg : slip) {
+                totalOdds *= leg.odd();
+                hitProbability *= leg.probability();
+            }
+            if (totalOdds >= request.minTotalOdds() && hitProbability >= request.minHitProbability()) {
+                double value = switch (request.objective()) {
+                    case EXPECTED_VALUE -> totalOdds * hitProbability;
+                    case TOTAL_ODDS -> totalOdds;
+                    case HIT_PROBABILITY -> hitProbability;
+                };
+                List<Leg> ordered = new ArrayList<>(slip);
+                ordered.sort(Comparator.comparingInt(Leg::matchNo));
+                StringBuilder key = new StringBuilder();
+                for (Leg leg : ordered) {
+                    key.append(leg.matchNo()).append(leg.pick().name().charAt(0)).append(' ');
+                }
+                out.add(new Expected(Math.log(value), key.toString()));
+            }
+        }
+        if (slip.size() == request.maxLegs())
+            return;
+        for (int i = from; i < matches.size(); i++) {
+            for (Leg leg : matches.get(i)) {
+                slip.add(leg);
+                enumerate(matches, i + 1, slip, request, out);
+                slip.remove(slip.size() - 1);
+            }
+        }
+    }
+
+    // Nine parlay candidates, two of them without a draw quote, plus an over/under match the search skips.
+    private static List<Match> round() {
+        Random random = new Random(42);
+        LocalDateTime kickoff = LocalDateTime.of(2025, 3, 15, 19, 0);
+        List<Match> matches = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            MatchType type = i == 10 ? MatchType.UNDER_OVER : i % 3 == 0 ? MatchType.HANDICAP : MatchType.GENERAL;
+            Double draw = i == 4 || i == 7 ? null : 2.8 + random.nextDouble();
+            matches.add(new Match(2025001, i, kickoff, "EPL", "Home" + i, "Away" + i, type,
+                    1.2 + random.nextDouble() * 2.5, draw, 1.5 + random.nextDouble() * 4, null, null, null));
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,32 @@
+package com.footballbet.service.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StrategiesTest {
+
+    @Test
+    void everyOddFallsInExactlyOneBand() {
+        List<Strategy> bands = Strategies.grid(List.of()).stream()
+                .filter(strategy -> strategy.pick() == PickRule.values()[0] && strategy.typeMask() == 0)
+                .filter(strategy -> strategy.minOdd() > 0 || strategy.maxOdd() != Double.POSITIVE_INFINITY)
+                .toList();
+
+        for (double odd : new double[] { 1.0, 1.49, 1.5, 2.0, 2.5, 3.5, 4.99, 5.0, 12.0 }) {
+            assertThat(bands.stream().filter(strategy -> strategy.acceptsOdd(odd)).count())
+                    .as("bands taking %s", odd)
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    void openEndedBandTakesAnyOddAboveItsFloor() {
+        Strategy open = Strategy.of("open", PickRule.values()[0]).withOddsBand(5.0, Double.POSITIVE_INFINITY);
+
+        assertThat(open.acceptsOdd(5.0)).isTrue();
+        assertThat(open.acceptsOdd(1_000.0)).isTrue();
+        assertThat(open.acceptsOdd(4.99)).isFalse();
+    }
+}
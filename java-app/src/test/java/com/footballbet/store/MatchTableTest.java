@@ -0,0 +1,117 @@
+package com.footballbet.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.model.Score;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MatchTableTest {
+    private static final LocalDateTime KICKOFF = LocalDateTime.of(2025, 3, 15, 19, 0);
+
+    @Test
+    void mergeReplacesExistingRowsAndInsertsNewOnesInRoundOrder() {
+        MatchTable table = MatchTable.from(List.of(
+                match(2025001, 1, "Arsenal", null),
+                match(2025001, 3, "Chelsea", null),
+                match(2025002, 1, "Fulham", null)));
+
+        MatchTable merged = table.merge(List.of(
+                match(2025003, 1, "Leeds", null),
+                match(2025001, 3, "Chelsea", Result.WIN),
+                match(2025001, 2, "Everton", null),
+                match(2025000, 9, "Burnley", null)));
+
+        assertThat(keys(merged)).containsExactly("2025000-9", "2025001-1", "2025001-2", "2025001-3", "2025002-1",
+                "2025003-1");
+        assertThat(merged.result(3)).isEqualTo(Result.WIN);
+        assertThat(merged.home(2)).isEqualTo("Everton");
+        assertThat(merged.home(1)).isEqualTo("Arsenal");
+    }
+
+    @Test
+    void mergeKeepsTheLastRowOfARepeatedKey() {
+        MatchTable table = MatchTable.from(List.of(match(2025001, 1, "Arsenal", null)));
+
+        MatchTable merged = table.merge(List.of(
+                match(2025001, 1, "Arsenal", Result.DRAW),
+                match(2025001, 1, "Arsenal", Result.LOSE)));
+
+        assertThat(merged.size()).isEqualTo(1);
+        assertThat(merged.result(0)).isEqualTo(Result.LOSE);
+    }
+
+    @Test
+    void mergeMatchesAFullRebuild() {
+        List<Match> rows = new ArrayList<>();
+        for (int i = 0; i < 200; i += 2) {
+            rows.add(match(2025000 + i / 14, i % 14, "Home" + i, null));
+        }
+        List<Match> changes = new ArrayList<>();
+        for (int i = 0; i < 200; i += 3) {
+            changes.add(match(2025000 + i / 14, i % 14, "Changed" + i, Result.WIN));
+        }
+
+        MatchTable merged = MatchTable.from(rows).merge(changes);
+
+        List<Match> expected = new ArrayList<>(rows);
+        expected.removeIf(row -> changes.stream().anyMatch(change -> change.getRound() == row.getRound()
+                && change.getMatchNo() == row.getMatchNo()));
+        expected.addAll(changes);
+        expected.sort((a, b) -> a.getRound() != b.getRound() ? Integer.compare(a.getRound(), b.getRound())
+                : Integer.compare(a.getMatchNo(), b.getMatchNo()));
+        MatchTable rebuilt = MatchTable.from(expected);
+        assertThat(merged.size()).isEqualTo(rebuilt.size());
+        for (int i = 0; i < rebuilt.size(); i++) {
+            assertThat(merged.toMatch(i)).usingRecursiveComparison().isEqualTo(rebuilt.toMatch(i));
+        }
+    }
+
+    @Test
+    void mergeLeavesTheSourceTableUntouched() {
+        MatchTable table = MatchTable.from(List.of(match(2025001, 1, "Arsenal", null)));
+
+        table.merge(List.of(match(2025001, 2, "Brand New", null)));
+
+        assertThat(table.size()).isEqualTo(1);
+        assertThat(table.teams().find("Brand New")).isEqualTo(StringDictionary.NO_ID);
+    }
+
+    @Test
+    void scoresAboveAByteSurvive() {
+        Match match = new Match(2025001, 1, KICKOFF, "EPL", "Arsenal", "Chelsea", MatchType.GENERAL, 1.8, 3.4, 4.1,
+                Score.tryParse("255:128"), Result.WIN, 1.8);
+
+        MatchTable table = MatchTable.from(List.of(match));
+
+        assertThat(table.score(0)).isEqualTo(new Score(255, 128));
+        assertThat(table.merge(List.of()).score(0)).isEqualTo(new Score(255, 128));
+    }
+
+    @Test
+    void negativeScoresAreRejected() {
+        Match match = new Match(2025001, 1, KICKOFF, "EPL", "Arsenal", "Chelsea", MatchType.GENERAL, 1.8, 3.4, 4.1,
+                new Score(-1, 0), Result.WIN, 1.8);
+
+        assertThatThrownBy(() -> MatchTable.from(List.of(match))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> keys(MatchTable table) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < table.size(); i++) {
+            keys.add(table.round(i) + "-" + table.matchNo(i));
+        }
+        return keys;
+    }
+
+    private static Match match(int round, int matchNo, String home, Result result) {
+        return new Match(round, matchNo, KICKOFF, "EPL", home, "Away", MatchType.GENERAL, 1.8, 3.4, 4.1,
+                result == null ? null : new Score(1, 0), result, result == null ? null : 1.8);
+    }
+}
@@ -0,0 +1,61 @@
+package com.footballbet.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.footballbet.dto.odds.OddsBasis;
+import com.footballbet.dto.odds.OddsCubeQuery;
+import com.footballbet.model.Match;
+import com.footballbet.model.MatchType;
+import com.footballbet.model.Result;
+import com.footballbet.model.Score;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OddsCubesTest {
+    private static final OddsCubeQuery EVERYTHING = new OddsCubeQuery(null, null, null, Double.NaN, Double.NaN, null);
+
+    @Test
+    void evictsTheLeastRecentlyUsedCube() {
+        OddsCubes cubes = new OddsCubes(new MatchDataset());
+        OddsCube first = cubes.get(0.1, OddsBasis.FAVORITE);
+        OddsCube second = cubes.get(0.2, OddsBasis.FAVORITE);
+        for (int i = 0; i < 15; i++) {
+            cubes.get(1.0 + i * 0.1, OddsBasis.WIN);
+            cubes.get(0.1, OddsBasis.FAVORITE);
+        }
+
+        assertThat(cubes.get(0.1, OddsBasis.FAVORITE)).isSameAs(first);
+        assertThat(cubes.get(0.2, OddsBasis.FAVORITE)).isNotSameAs(second);
+    }
+
+    @Test
+    void cachedCubesFollowLaterPublishes() {
+        MatchDataset dataset = new MatchDataset();
+        dataset.publish(MatchTable.from(List.of(match(1))), List.of(match(1)));
+        OddsCubes cubes = new OddsCubes(dataset);
+        OddsCube cube = cubes.get(0.1, OddsBasis.FAVORITE);
+        long seeded = cube.slice(EVERYTHING).version();
+
+        dataset.publish(dataset.table().merge(List.of(match(2))), List.of(match(2)));
+
+        assertThat(cube.slice(EVERYTHING).total()).isEqualTo(2);
+        assertThat(cube.slice(EVERYTHING).version()).isGreaterThan(seeded);
+    }
+
+    @Test
+    void rebuiltCubesGetANewGeneration() {
+        OddsCubes cubes = new OddsCubes(new MatchDataset());
+        OddsCube first = cubes.get(0.1, OddsBasis.FAVORITE);
+        for (int i = 0; i < 16; i++) {
+            cubes.get(1.0 + i * 0.1, OddsBasis.WIN);
+        }
+
+        assertThat(cubes.get(0.1, OddsBasis.FAVORITE).generation()).isNotEqualTo(first.generation());
+    }
+
+    private static Match match(int matchNo) {
+        return new Match(2025001, matchNo, LocalDateTime.of(2025, 3, 15, 19, 0), "EPL", "Arsenal", "Chelsea",
+                MatchType.GENERAL, 1.8, 3.4, 4.1, new Score(1, 0), Result.WIN, 1.8);
+    }
+}
@@ -0,0 +1,167 @@
+package com.footballbet.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.footballbet.common.CsvColumns;
+import com.footballbet.dto.load.LoadReport;
+import com.footballbet.model.Score;
+import com.footballbet.service.alias.TeamAliasResolver;
+import com.footballbet.service.quality.DataQualityValidator;
+import com.footballbet.util.CsvLoader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RoundSnapshotCacheTest {
+    private static final String HEADER = String.join(",", CsvColumns.ROUND, CsvColumns.MATCH_NO,
+            CsvColumns.DATE_TIME, CsvColumns.LEAGUE, CsvColumns.HOME, CsvColumns.AWAY, CsvColumns.TYPE,
+            CsvColumns.WIN_ODD, CsvColumns.DRAW_ODD, CsvColumns.LOSE_ODD, CsvColumns.SCORE, CsvColumns.RESULT,
+            CsvColumns.RESULT_ODD);
+
+    @TempDir
+    Path dir;
+
+    private List<File> files;
+    private Path snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        files = List.of(
+                writeRound("betinfo_proto_round_2025001.csv", 2025001),
+                writeRound("betinfo_proto_round_2025002.csv", 2025002));
+        snapshot = dir.resolve("data.snapshot");
+    }
+
+    @Test
+    void reusesUnchangedRoundsFromSnapshot() {
+        LoadReport first = newCache().load(files);
+        LoadReport second = newCache().load(files);
+
+        assertThat(first.cachedFiles()).isZero();
+        assertThat(second.cachedFiles()).isEqualTo(2);
+        assertThat(second.matches()).hasSize(4);
+        assertThat(second.matches().get(0).getHome()).isEqualTo("Arsenal");
+    }
+
+    @Test
+    void truncatedSnapshotIsACacheMiss() throws IOException {
+        newCache().load(files);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, 20));
+
+        LoadReport report = newCache().load(files);
+
+        assertThat(report.failedFiles()).isZero();
+        assertThat(report.cachedFiles()).isZero();
+        assertThat(report.matches()).hasSize(4);
+        assertThat(newCache().load(files).cachedFiles()).isEqualTo(2);
+    }
+
+    @Test
+    void outOfRangeSegmentIsACacheMiss() throws IOException {
+        newCache().load(files);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        // First entry's offset: magic, version, alias fingerprint, count, then the name and its size and mtime.
+        int offsetAt = 20 + 2 + "betinfo_proto_round_2025001.csv".length() + 16;
+        ByteBuffer.wrap(bytes).putLong(offsetAt, Long.MAX_VALUE - 8);
+        Files.write(snapshot, bytes);
+
+        LoadReport report = newCache().load(files);
+
+        assertThat(report.failedFiles()).isZero();
+        assertThat(report.cachedFiles()).isZero();
+        assertThat(report.matches()).hasSize(4);
+    }
+
+    @Test
+    void garbageSnapshotIsACacheMiss() throws IOException {
+        byte[] bytes = new byte[64];
+        ByteBuffer.wrap(bytes).putInt(0x46504253).putInt(3).putLong(0).putInt(-5);
+        Files.write(snapshot, bytes);
+
+        LoadReport report = newCache().load(files);
+
+        assertThat(report.failedFiles()).isZero();
+        assertThat(report.matches()).hasSize(4);
+    }
+
+    @Test
+    void unreadableRoundDoesNotRewriteTheSnapshotEveryStart() throws IOException {
+        File broken = Files.createDirectories(dir.resolve("betinfo_proto_round_2025009.csv")).toFile();
+        List<File> withBroken = List.of(files.get(0), files.get(1), broken);
+        assertThat(newCache().load(withBroken).failedFiles()).isEqualTo(1);
+        FileTime written = FileTime.fromMillis(1_000_000_000L);
+        Files.setLastModifiedTime(snapshot, written);
+
+        LoadReport report = newCache().load(withBroken);
+
+        assertThat(report.failedFiles()).isEqualTo(1);
+        assertThat(report.cachedFiles()).isEqualTo(2);
+        assertThat(Files.getLastModifiedTime(snapshot)).isEqualTo(written);
+    }
+
+    @Test
+    void removedRoundIsDroppedFromTheSnapshot() throws IOException {
+        newCache().load(files);
+        FileTime written = FileTime.fromMillis(1_000_000_000L);
+        Files.setLastModifiedTime(snapshot, written);
+
+        assertThat(newCache().load(files.subList(0, 1)).cachedFiles()).isEqualTo(1);
+
+        assertThat(Files.getLastModifiedTime(snapshot)).isNotEqualTo(written);
+        assertThat(newCache().load(files).cachedFiles()).isEqualTo(1);
+    }
+
+    @Test
+    void scoresAboveAByteRoundTrip() throws IOException {
+        Path file = dir.resolve("betinfo_proto_round_2025003.csv");
+        Files.writeString(file, HEADER + "\n2025003,1,\"25.03.15 (토) 19:00\",EPL,Arsenal,Chelsea,일반,1.8,3.5,4.2,"
+                + "200:130,승,1.8\n", StandardCharsets.UTF_8);
+        newCache().load(List.of(file.toFile()));
+
+        LoadReport report = newCache().load(List.of(file.toFile()));
+
+        assertThat(report.cachedFiles()).isEqualTo(1);
+        assertThat(report.matches().get(0).getScore()).isEqualTo(new Score(200, 130));
+    }
+
+    @Test
+    void aliasChangeInvalidatesSnapshot() throws IOException {
+        newCache().load(files);
+        Path master = Files.createDirectories(dir.resolve("master"));
+        Files.writeString(master.resolve("teams.csv"), "id,name,nameKo\nt1,Arsenal,아스날\n", StandardCharsets.UTF_8);
+        TeamAliasResolver names = TeamAliasResolver.load(master, dir.resolve("aliases"));
+
+        LoadReport report = newCache(names).load(files);
+
+        assertThat(report.cachedFiles()).isZero();
+        assertThat(report.matches().get(0).getHome()).isEqualTo("아스날");
+        assertThat(newCache(names).load(files).cachedFiles()).isEqualTo(2);
+    }
+
+    private RoundSnapshotCache newCache() {
+        return newCache(TeamAliasResolver.empty());
+    }
+
+    private RoundSnapshotCache newCache(TeamAliasResolver names) {
+        return new RoundSnapshotCache(snapshot, new CsvLoader(names), new DataQualityValidator());
+    }
+
+    private File writeRound(String name, int round) throws IOException {
+        Path file = dir.resolve(name);
+        Files.writeString(file, HEADER + "\n"
+                + round + ",1,\"25.03.15 (토) 19:00\",EPL,Arsenal,Chelsea,일반,1.8,3.5,4.2,2:1,승,1.8\n"
+                + round + ",2,\"25.03.16 (일) 21:00\",EPL,Fulham,Everton,일반,2.4,3.1,2.9,0:0,무,3.1\n",
+                StandardCharsets.UTF_8);
+        return file.toFile();
+    }
+}
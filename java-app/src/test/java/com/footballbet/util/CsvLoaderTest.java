@@ -0,0 +1,41 @@
+package com.footballbet.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.footballbet.common.CsvColumns;
+import com.footballbet.model.Match;
+import com.footballbet.service.alias.TeamAliasResolver;
+import org.junit.jupiter.api.Test;
+
+class CsvLoaderTest {
+    private final CsvLoader loader = new CsvLoader(TeamAliasResolver.empty());
+
+    @Test
+    void parseRecordFollowsEachRecordsFieldOrder() {
+        String[] homeFirst = { CsvColumns.ROUND, CsvColumns.MATCH_NO, CsvColumns.HOME, CsvColumns.AWAY };
+        String[] awayFirst = { CsvColumns.ROUND, CsvColumns.MATCH_NO, CsvColumns.AWAY, CsvColumns.HOME };
+
+        Match first = loader.parseRecord(homeFirst, new String[] { "2025001", "1", "Arsenal", "Chelsea" });
+        Match second = loader.parseRecord(homeFirst.clone(), new String[] { "2025001", "2", "Fulham", "Everton" });
+        Match swapped = loader.parseRecord(awayFirst, new String[] { "2025001", "3", "Leeds", "Spurs" });
+        Match back = loader.parseRecord(homeFirst, new String[] { "2025001", "4", "Wolves", "Burnley" });
+
+        assertThat(first.getHome()).isEqualTo("Arsenal");
+        assertThat(second.getHome()).isEqualTo("Fulham");
+        assertThat(swapped.getHome()).isEqualTo("Spurs");
+        assertThat(swapped.getAway()).isEqualTo("Leeds");
+        assertThat(back.getHome()).isEqualTo("Wolves");
+    }
+
+    @Test
+    void reusedHeaderArrayIsNotTrustedAfterItChanges() {
+        String[] header = { CsvColumns.ROUND, CsvColumns.MATCH_NO, CsvColumns.HOME, CsvColumns.AWAY };
+        loader.parseRecord(header, new String[] { "2025001", "1", "Arsenal", "Chelsea" });
+        header[2] = CsvColumns.AWAY;
+        header[3] = CsvColumns.HOME;
+
+        Match match = loader.parseRecord(header, new String[] { "2025001", "2", "Leeds", "Spurs" });
+
+        assertThat(match.getHome()).isEqualTo("Spurs");
+    }
+}
@@ -0,0 +1,54 @@
+package com.footballbet.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.footballbet.service.alias.TeamAliasResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlashscoreCsvLoaderTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void parsesEpochSecondsAndMillisInKoreanTime() {
+        LocalDateTime expected = LocalDateTime.of(2025, 3, 15, 19, 0);
+
+        assertThat(FlashscoreCsvLoader.parseKickoff("1742032800", null)).isEqualTo(expected);
+        assertThat(FlashscoreCsvLoader.parseKickoff("1742032800000", null)).isEqualTo(expected);
+    }
+
+    @Test
+    void overlongDigitsAreNotAKickoff() {
+        assertThat(FlashscoreCsvLoader.parseKickoff("99999999999999999999", null)).isNull();
+        assertThat(FlashscoreCsvLoader.parseKickoff("9999999999999999999", null)).isNull();
+    }
+
+    @Test
+    void dateNeedsATime() {
+        assertThat(FlashscoreCsvLoader.parseKickoff("2025-03-15", null)).isNull();
+        assertThat(FlashscoreCsvLoader.parseKickoff("2025-03-15", "19:00"))
+                .isEqualTo(LocalDateTime.of(2025, 3, 15, 19, 0));
+        assertThat(FlashscoreCsvLoader.parseKickoff("2025-03-15 19:00", null))
+                .isEqualTo(LocalDateTime.of(2025, 3, 15, 19, 0));
+    }
+
+    @Test
+    void unplaceableKickoffsAreCountedAsSkipped() throws IOException {
+        Files.writeString(dir.resolve("matches.csv"), "matchId,date,home,away,score\n"
+                + "a1,2025-03-15 19:00,Arsenal,Chelsea,2-1\n"
+                + "a2,99999999999999999999,Fulham,Everton,0-0\n"
+                + "a3,2025-03-16,Spurs,Brighton,1-1\n", StandardCharsets.UTF_8);
+
+        FlashscoreCsvLoader.Load load = new FlashscoreCsvLoader(TeamAliasResolver.empty()).load(dir);
+
+        assertThat(load.matches()).hasSize(1);
+        assertThat(load.matches().get(0).home()).isEqualTo("Arsenal");
+        assertThat(load.skippedRows()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,54 @@
+package com.footballbet.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class IntListTest {
+
+    @Test
+    void growsFromZeroCapacity() {
+        IntList list = new IntList(0);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.size()).isEqualTo(1000);
+        assertThat(list.get(999)).isEqualTo(999);
+        assertThat(list.toArray()).hasSize(1000).startsWith(0, 1, 2);
+    }
+
+    @Test
+    void removeShiftsLaterValuesAndKeepsOrder() {
+        IntList list = new IntList();
+        list.add(3);
+        list.add(-1);
+        list.add(7);
+        list.add(-1);
+
+        assertThat(list.remove(-1)).isTrue();
+        assertThat(list.toArray()).containsExactly(3, 7, -1);
+        assertThat(list.remove(42)).isFalse();
+        assertThat(list.size()).isEqualTo(3);
+    }
+
+    @Test
+    void removingEverythingLeavesAnEmptyList() {
+        IntList list = new IntList(1);
+        list.add(5);
+
+        assertThat(list.remove(5)).isTrue();
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.toArray()).isEmpty();
+    }
+
+    @Test
+    void getRejectsIndexesPastSize() {
+        IntList list = new IntList(16);
+        list.add(1);
+
+        assertThatThrownBy(() -> list.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.footballbet.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.footballbet.repository.InMemoryMatchRepository;
+import org.junit.jupiter.api.Test;
+
+class LongIntHashMapTest {
+    private static final int MISSING = -1;
+
+    @Test
+    void returnsMissingValueForAbsentKeys() {
+        LongIntHashMap map = new LongIntHashMap(4, MISSING);
+
+        assertThat(map.get(42L)).isEqualTo(MISSING);
+        assertThat(map.put(42L, 7)).isEqualTo(MISSING);
+        assertThat(map.get(42L)).isEqualTo(7);
+        assertThat(map.get(43L)).isEqualTo(MISSING);
+    }
+
+    @Test
+    void putReplacesAndReturnsPreviousValue() {
+        LongIntHashMap map = new LongIntHashMap(4, MISSING);
+        map.put(5L, 1);
+
+        assertThat(map.put(5L, 2)).isEqualTo(1);
+        assertThat(map.get(5L)).isEqualTo(2);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsEveryEntryAcrossResizes() {
+        LongIntHashMap map = new LongIntHashMap(1, MISSING);
+        for (int i = 0; i < 10_000; i++) {
+            map.put(InMemoryMatchRepository.key(2025000 + i / 14, i % 14 + 1), i);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(map.get(InMemoryMatchRepository.key(2025000 + i / 14, i % 14 + 1))).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void probesPastCollidingKeys() {
+        // Keys that differ only in the high or only in the low half land in clusters of a small table.
+        LongIntHashMap map = new LongIntHashMap(8, MISSING);
+        for (int i = 0; i < 512; i++) {
+            map.put((long) i << 32, i);
+            map.put(i * 1024L, 1000 + i);
+        }
+
+        assertThat(map.size()).isEqualTo(1023);
+        for (int i = 1; i < 512; i++) {
+            assertThat(map.get((long) i << 32)).isEqualTo(i);
+            assertThat(map.get(i * 1024L)).isEqualTo(1000 + i);
+        }
+        assertThat(map.get(0L)).isEqualTo(1000);
+    }
+
+    @Test
+    void negativeKeysAreOrdinaryKeys() {
+        LongIntHashMap map = new LongIntHashMap(8, MISSING);
+        map.put(-1L, 1);
+        map.put(Long.MAX_VALUE, 2);
+        map.put(Long.MIN_VALUE + 1, 3);
+
+        assertThat(map.get(-1L)).isEqualTo(1);
+        assertThat(map.get(Long.MAX_VALUE)).isEqualTo(2);
+        assertThat(map.get(Long.MIN_VALUE + 1)).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsTheReservedEmptyKey() {
+        LongIntHashMap map = new LongIntHashMap(8, MISSING);
+
+        assertThatThrownBy(() -> map.put(Long.MIN_VALUE, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.get(Long.MIN_VALUE)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,143 @@
+package com.footballbet.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.footballbet.model.Score;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// The legacy parsers are the formatter/split/exception versions ParseUtil replaced; they are the oracle for
+// well-formed cells, and the tests name every place where the new parsers deliberately differ.
+class ParseUtilTest {
+    private static final DateTimeFormatter LEGACY_DATE_FORMATTER = DateTimeFormatter.ofPattern("yy.MM.dd (E) HH:mm",
+            Locale.KOREAN);
+
+    @Test
+    void dateTimesMatchTheFormatter() {
+        LocalDateTime kickoff = LocalDateTime.of(2023, 12, 25, 0, 5);
+        for (int i = 0; i < 2_000; i++) {
+            String text = kickoff.plusMinutes(i * 737L).format(LEGACY_DATE_FORMATTER);
+            assertThat(ParseUtil.parseDateTime(text)).as(text).isEqualTo(legacyDateTime(text)).isNotNull();
+        }
+        assertThat(ParseUtil.parseDateTime("24.02.29 (목) 12:00")).isEqualTo(LocalDateTime.of(2024, 2, 29, 12, 0));
+        assertThat(ParseUtil.parseDateTime("23.02.29 (수) 12:00")).isNull();
+        assertThat(ParseUtil.parseDateTime("25.03.15 (토) 24:00")).isNull();
+        assertThat(ParseUtil.parseDateTime("")).isNull();
+    }
+
+    @Test
+    void weekdayMustAgreeWithTheDate() {
+        assertThat(ParseUtil.parseDateTime("25.03.15 (토) 19:00")).isEqualTo(LocalDateTime.of(2025, 3, 15, 19, 0));
+        assertThat(ParseUtil.parseDateTime("25.03.15 (일) 19:00")).isNull();
+        assertThat(legacyDateTime("25.03.15 (일) 19:00")).isNull();
+        assertThat(ParseUtil.parseDateTime("25.03.15 (X) 19:00")).isNull();
+        // Remembered kickoffs must not bypass the check.
+        assertThat(ParseUtil.parseDateTime("25.03.15 (토) 19:00")).isNotNull();
+        assertThat(ParseUtil.parseDateTime("25.03.15 (일) 19:00")).isNull();
+    }
+
+    @Test
+    void dateTimesAreTrimmed() {
+        assertThat(ParseUtil.parseDateTime(" 25.03.15 (토) 19:00\t")).isEqualTo(LocalDateTime.of(2025, 3, 15, 19, 0));
+    }
+
+    @Test
+    void oddsRoundExactlyLikeDoubleParseDouble() {
+        for (int i = 0; i < 100_000; i++) {
+            assertSameDouble(i / 100 + "." + String.format("%02d", i % 100));
+            assertSameDouble(i / 1000 + "." + String.format("%03d", i % 1000));
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long mantissa = random.nextLong() % 1_000_000_000_000_000L;
+            assertSameDouble(BigDecimal.valueOf(mantissa, random.nextInt(16)).toPlainString());
+        }
+        assertSameDouble("0.1000000000000000055511151231257827");
+        assertSameDouble("1.5e3");
+        assertSameDouble("+2.25");
+        assertSameDouble(".5");
+        assertSameDouble("5.");
+    }
+
+    @Test
+    void malformedOddsAreNull() {
+        assertThat(ParseUtil.parseDouble("-")).isNull();
+        assertThat(ParseUtil.parseDouble(" ")).isNull();
+        assertThat(ParseUtil.parseDouble("1.2.3")).isNull();
+        assertThat(ParseUtil.parseDouble("1.5e")).isNull();
+        assertThat(ParseUtil.parseDouble(".")).isNull();
+        assertThat(ParseUtil.parseDouble("abc")).isNull();
+    }
+
+    @Test
+    void intsMatchIntegerParseIntAndAreTrimmed() {
+        for (String text : new String[] { "0", "7", "-7", "+7", "2025001", "2147483647", "-2147483648",
+                "2147483648", "12a", "", "99999999999" }) {
+            assertThat(ParseUtil.parseInt(text)).as(text).isEqualTo(legacyInt(text));
+        }
+        // Integer.parseInt rejects surrounding whitespace; the new parser trims it first.
+        assertThat(legacyInt(" 12 ")).isZero();
+        assertThat(ParseUtil.parseInt(" 12 ")).isEqualTo(12);
+        assertThat(ParseUtil.parseInt(null)).isZero();
+    }
+
+    @Test
+    void scoresMatchTheSplitParser() {
+        for (String text : new String[] { "2:1", "0:0", " 3 : 2 ", "15:15", "16:0", "a:1", ":1", "21", "" }) {
+            assertThat(ParseUtil.parseScore(text)).as(text).isEqualTo(legacyScore(text));
+        }
+        assertThat(ParseUtil.parseScore("2:1")).isSameAs(Score.of(2, 1));
+    }
+
+    @Test
+    void scoresRejectExtraPartsAndNegatives() {
+        assertThat(legacyScore("1:2:3")).isEqualTo(new Score(1, 2));
+        assertThat(ParseUtil.parseScore("1:2:3")).isNull();
+        assertThat(legacyScore("-1:2")).isEqualTo(new Score(-1, 2));
+        assertThat(ParseUtil.parseScore("-1:2")).isNull();
+        assertThat(ParseUtil.parseScore("1:-2")).isNull();
+    }
+
+    private static void assertSameDouble(String text) {
+        Double parsed = ParseUtil.parseDouble(text);
+        assertThat(parsed).as(text).isNotNull();
+        assertThat(Double.doubleToRawLongBits(parsed)).as(text)
+                .isEqualTo(Double.doubleToRawLongBits(Double.parseDouble(text)));
+    }
+
+    private static LocalDateTime legacyDateTime(String text) {
+        if (text == null || text.isBlank())
+            return null;
+        try {
+            return LocalDateTime.parse(text, LEGACY_DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static int legacyInt(String text) {
+        if (text == null || text.isBlank())
+            return 0;
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static Score legacyScore(String text) {
+        if (text == null || text.isBlank() || !text.contains(":"))
+            return null;
+        String[] parts = text.split(":");
+        try {
+            return new Score(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}